@@ -1,10 +1,33 @@
 namespace java com.github.ddth.frontapi.internal.thrift
 
+enum TDataEncoding {
+    JSON = 0,
+    SMILE = 1
+}
+
 struct TApiResult {
     1: i32 status,
     2: string jsonOutput
 }
 
+struct TApiBinaryResult {
+    1: i32 status,
+    2: binary output
+}
+
+struct TApiCall {
+    1: string moduleName,
+    2: string apiName,
+    3: string jsonInput
+}
+
 service TApi {
- 	TApiResult callApi(1: string authKey, 2: string moduleName, 3: string apiName, 4: string jsonInput)
+ 	// timeoutMillisecs: caller's deadline for the API call, 0 = none (API's own timeout still applies)
+ 	TApiResult callApi(1: string authKey, 2: string moduleName, 3: string apiName, 4: string jsonInput, 5: i64 timeoutMillisecs)
+
+ 	// same as callApi, but API's input and output are binary data in the specified encoding
+ 	TApiBinaryResult callApiBinary(1: string authKey, 2: string moduleName, 3: string apiName, 4: TDataEncoding encoding, 5: binary input, 6: i64 timeoutMillisecs)
+
+ 	// calls a batch of APIs in parallel, results are returned in the same order as calls
+ 	list<TApiResult> callApis(1: string authKey, 2: list<TApiCall> calls)
 }
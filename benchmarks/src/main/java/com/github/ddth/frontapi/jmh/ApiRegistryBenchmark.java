@@ -0,0 +1,86 @@
+package com.github.ddth.frontapi.jmh;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.ddth.frontapi.ApiResult;
+import com.github.ddth.frontapi.IApi;
+import com.github.ddth.frontapi.IApiHandle;
+import com.github.ddth.frontapi.impl.ApiRegistry;
+import com.github.ddth.frontapi.test.Payloads;
+
+/**
+ * Benchmarks {@link ApiRegistry#callApi(String, String, String, Object)}: by
+ * name and through a resolved {@link IApiHandle}.
+ *
+ * @author Thanh Ba Nguyen <btnguyen2k@gmail.com>
+ * @since 0.1.4
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiRegistryBenchmark {
+
+    @Param({ Payloads.SMALL, Payloads.MEDIUM, Payloads.LARGE, Payloads.NESTED })
+    public String payload;
+
+    private ApiRegistry apiRegistry;
+    private IApiHandle pingHandle, echoHandle;
+    private Map<String, Object> params;
+
+    @Setup
+    public void setup() {
+        apiRegistry = Fixtures.createApiRegistry();
+        pingHandle = apiRegistry.resolve(Fixtures.MODULE_NAME, Fixtures.API_PING);
+        echoHandle = apiRegistry.resolve(Fixtures.MODULE_NAME, Fixtures.API_ECHO);
+        params = Payloads.payload(payload);
+    }
+
+    @TearDown
+    public void tearDown() {
+        apiRegistry.destroy();
+    }
+
+    @Benchmark
+    public ApiResult ping() {
+        return apiRegistry.callApi(Fixtures.MODULE_NAME, Fixtures.API_PING, IApi.OPEN_AUTHKEY,
+                null);
+    }
+
+    @Benchmark
+    public ApiResult pingHandle() {
+        return pingHandle.call(IApi.OPEN_AUTHKEY, null);
+    }
+
+    @Benchmark
+    public ApiResult echo() {
+        return apiRegistry.callApi(Fixtures.MODULE_NAME, Fixtures.API_ECHO, IApi.OPEN_AUTHKEY,
+                params);
+    }
+
+    @Benchmark
+    public ApiResult echoHandle() {
+        return echoHandle.call(IApi.OPEN_AUTHKEY, params);
+    }
+
+    @Benchmark
+    public ApiResult notFound() {
+        return apiRegistry.callApi(Fixtures.MODULE_NAME, "not-found", IApi.OPEN_AUTHKEY, null);
+    }
+}
@@ -0,0 +1,89 @@
+package com.github.ddth.frontapi.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.github.ddth.frontapi.IApi;
+import com.github.ddth.frontapi.impl.ApiRegistry;
+import com.github.ddth.frontapi.impl.ApiServlet;
+import com.github.ddth.frontapi.internal.JsonUtils;
+import com.github.ddth.frontapi.test.Payloads;
+
+/**
+ * Benchmarks {@link ApiServlet} request handling (request parsing, API call
+ * and response writing) against mock requests; no network involved.
+ *
+ * <p>
+ * Creating the mock request/response is part of each operation.
+ * </p>
+ *
+ * @author Thanh Ba Nguyen <btnguyen2k@gmail.com>
+ * @since 0.1.4
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiServletBenchmark {
+
+    private final static String URL_MAPPING = "/api";
+    private final static String PING_URI = URL_MAPPING + "/" + IApi.OPEN_AUTHKEY + "/"
+            + Fixtures.MODULE_NAME + "/" + Fixtures.API_PING;
+    private final static String ECHO_URI = URL_MAPPING + "/" + IApi.OPEN_AUTHKEY + "/"
+            + Fixtures.MODULE_NAME + "/" + Fixtures.API_ECHO;
+
+    @Param({ Payloads.SMALL, Payloads.MEDIUM, Payloads.LARGE, Payloads.NESTED })
+    public String payload;
+
+    private ApiRegistry apiRegistry;
+    private ApiServlet apiServlet;
+    private byte[] content;
+
+    @Setup
+    public void setup() {
+        apiRegistry = Fixtures.createApiRegistry();
+        apiServlet = new ApiServlet(apiRegistry, URL_MAPPING);
+        content = JsonUtils.toJsonBytes(Payloads.payload(payload));
+    }
+
+    @TearDown
+    public void tearDown() {
+        apiServlet.destroy();
+        apiRegistry.destroy();
+    }
+
+    private MockHttpServletResponse service(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        apiServlet.service(request, response);
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse getPing() throws Exception {
+        return service(new MockHttpServletRequest("GET", PING_URI));
+    }
+
+    @Benchmark
+    public MockHttpServletResponse postEcho() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", ECHO_URI);
+        request.setContentType("application/json");
+        request.setContent(content);
+        return service(request);
+    }
+}
@@ -0,0 +1,45 @@
+package com.github.ddth.frontapi.jmh;
+
+import com.github.ddth.frontapi.ApiParams;
+import com.github.ddth.frontapi.IApi;
+import com.github.ddth.frontapi.impl.ApiRegistry;
+import com.github.ddth.frontapi.test.Payloads;
+
+/**
+ * Shared fixtures of the benchmarks: a registry with test APIs; payloads
+ * come from {@link Payloads}.
+ *
+ * @author Thanh Ba Nguyen <btnguyen2k@gmail.com>
+ * @since 0.1.4
+ */
+public class Fixtures {
+
+    public final static String MODULE_NAME = "bench";
+    public final static String API_PING = "ping";
+    public final static String API_ECHO = "echo";
+
+    /**
+     * Creates and initializes a registry with two APIs in module
+     * {@value #MODULE_NAME}: {@value #API_PING} (returns {@code "pong"}) and
+     * {@value #API_ECHO} (returns its input).
+     *
+     * @return
+     */
+    public static ApiRegistry createApiRegistry() {
+        ApiRegistry apiRegistry = new ApiRegistry();
+        apiRegistry.init();
+        apiRegistry.register(MODULE_NAME, API_PING, new IApi() {
+            @Override
+            public Object call(ApiParams params) throws Exception {
+                return "pong";
+            }
+        });
+        apiRegistry.register(MODULE_NAME, API_ECHO, new IApi() {
+            @Override
+            public Object call(ApiParams params) throws Exception {
+                return params.getParams();
+            }
+        });
+        return apiRegistry;
+    }
+}
@@ -0,0 +1,91 @@
+package com.github.ddth.frontapi.jmh;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.ddth.frontapi.internal.JsonUtils;
+import com.github.ddth.frontapi.internal.SmileUtils;
+import com.github.ddth.frontapi.test.Payloads;
+
+/**
+ * Benchmarks {@link JsonUtils} (and {@link SmileUtils}) serialization and
+ * deserialization.
+ *
+ * @author Thanh Ba Nguyen <btnguyen2k@gmail.com>
+ * @since 0.1.4
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonUtilsBenchmark {
+
+    @Param({ Payloads.SMALL, Payloads.MEDIUM, Payloads.LARGE, Payloads.NESTED })
+    public String payload;
+
+    private Map<String, Object> data;
+    private String jsonString;
+    private byte[] jsonBytes, smile;
+
+    @Setup
+    public void setup() {
+        data = Payloads.payload(payload);
+        jsonString = JsonUtils.toJsonString(data);
+        jsonBytes = JsonUtils.toJsonBytes(data);
+        smile = SmileUtils.toSmile(data);
+    }
+
+    @Benchmark
+    public String toJsonString() {
+        return JsonUtils.toJsonString(data);
+    }
+
+    @Benchmark
+    public byte[] toJsonBytes() {
+        return JsonUtils.toJsonBytes(data);
+    }
+
+    @Benchmark
+    public String toCanonicalJsonString() {
+        return JsonUtils.toCanonicalJsonString(data);
+    }
+
+    @Benchmark
+    public Object fromJsonString() {
+        return JsonUtils.fromJsonString(jsonString);
+    }
+
+    @Benchmark
+    public Object fromJsonBytes() {
+        return JsonUtils.fromJsonBytes(jsonBytes);
+    }
+
+    @Benchmark
+    public Object roundTripJson() {
+        return JsonUtils.fromJsonBytes(JsonUtils.toJsonBytes(data));
+    }
+
+    @Benchmark
+    public Object roundTripSmile() {
+        return SmileUtils.fromSmile(SmileUtils.toSmile(data));
+    }
+
+    @Benchmark
+    public Object fromSmile() {
+        return SmileUtils.fromSmile(smile);
+    }
+}
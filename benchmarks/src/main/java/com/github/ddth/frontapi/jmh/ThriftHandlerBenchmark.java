@@ -0,0 +1,100 @@
+package com.github.ddth.frontapi.jmh;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.thrift.TException;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.transport.TMemoryBuffer;
+import org.apache.thrift.transport.TMemoryInputTransport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.ddth.frontapi.IApi;
+import com.github.ddth.frontapi.impl.ApiRegistry;
+import com.github.ddth.frontapi.internal.JsonUtils;
+import com.github.ddth.frontapi.internal.SmileUtils;
+import com.github.ddth.frontapi.internal.thrift.JsonApiHandler;
+import com.github.ddth.frontapi.internal.thrift.TApi;
+import com.github.ddth.frontapi.internal.thrift.TApiBinaryResult;
+import com.github.ddth.frontapi.internal.thrift.TApiResult;
+import com.github.ddth.frontapi.internal.thrift.TDataEncoding;
+import com.github.ddth.frontapi.test.Payloads;
+
+/**
+ * Benchmarks the Thrift handler in-process: {@link JsonApiHandler} called
+ * directly, and through {@link TApi.Processor} with requests/responses
+ * (de)serialized in memory; no network involved.
+ *
+ * @author Thanh Ba Nguyen <btnguyen2k@gmail.com>
+ * @since 0.1.4
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ThriftHandlerBenchmark {
+
+    @Param({ Payloads.SMALL, Payloads.MEDIUM, Payloads.LARGE, Payloads.NESTED })
+    public String payload;
+
+    private ApiRegistry apiRegistry;
+    private JsonApiHandler handler;
+    private TProcessor processor;
+    private String jsonInput;
+    private byte[] smileInput, callApiRequest;
+
+    @Setup
+    public void setup() throws TException {
+        apiRegistry = Fixtures.createApiRegistry();
+        handler = new JsonApiHandler(apiRegistry);
+        processor = new TApi.Processor<TApi.Iface>(handler);
+        jsonInput = JsonUtils.toJsonString(Payloads.payload(payload));
+        smileInput = SmileUtils.toSmile(Payloads.payload(payload));
+
+        // serialized "callApi" request, as a client would send it
+        TMemoryBuffer buffer = new TMemoryBuffer(1024);
+        new TApi.Client(new TBinaryProtocol(buffer)).send_callApi(IApi.OPEN_AUTHKEY,
+                Fixtures.MODULE_NAME, Fixtures.API_ECHO, jsonInput, 0);
+        callApiRequest = new byte[buffer.length()];
+        buffer.readAll(callApiRequest, 0, callApiRequest.length);
+    }
+
+    @TearDown
+    public void tearDown() {
+        apiRegistry.destroy();
+    }
+
+    @Benchmark
+    public TApiResult callApi() throws TException {
+        return handler.callApi(IApi.OPEN_AUTHKEY, Fixtures.MODULE_NAME, Fixtures.API_ECHO,
+                jsonInput, 0);
+    }
+
+    @Benchmark
+    public TApiBinaryResult callApiBinary() throws TException {
+        return handler.callApiBinary(IApi.OPEN_AUTHKEY, Fixtures.MODULE_NAME,
+                Fixtures.API_ECHO, TDataEncoding.SMILE, ByteBuffer.wrap(smileInput), 0);
+    }
+
+    @Benchmark
+    public int processCallApi() throws TException {
+        TMemoryInputTransport in = new TMemoryInputTransport(callApiRequest);
+        TMemoryBuffer out = new TMemoryBuffer(1024);
+        processor.process(new TBinaryProtocol(in), new TBinaryProtocol(out));
+        return out.length();
+    }
+}
@@ -0,0 +1,189 @@
+package com.github.ddth.frontapi.test;
+
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs an {@link Operation} a number of times from a number of threads and
+ * measures latencies with nanosecond resolution.
+ *
+ * <ul>
+ * <li>Closed loop (default): each thread runs the next operation as soon as
+ * the previous one completes.</li>
+ * <li>Open loop ({@code targetRate > 0}): operations are scheduled at a fixed
+ * rate, regardless of how long previous ones took. Besides the service time
+ * (from the actual start of an operation), the response time from its
+ * scheduled start is recorded as the corrected latency: it includes the time
+ * the operation had to wait because the system fell behind, which a closed
+ * loop hides (coordinated omission).</li>
+ * </ul>
+ *
+ * <p>
+ * Operations are spread over the threads round-robin: operation
+ * {@code runId} is run by thread {@code runId % concurrentLevel}.
+ * </p>
+ */
+public class Benchmark {
+    private final Operation operation;
+    private final int concurrentLevel;
+    private final int numberOfRun;
+    private final double targetRate;
+    private final CountDownLatch startSignal = new CountDownLatch(1);
+    private final CyclicBarrier barrier;
+    private long durationNanos;
+    private volatile long startNanos;
+
+    public Benchmark(Operation operation, int numberOfRun, int concurrentLevel) {
+        this(operation, numberOfRun, concurrentLevel, 0);
+    }
+
+    /**
+     * @param operation
+     * @param numberOfRun
+     * @param concurrentLevel
+     * @param targetRate
+     *            operations per second to schedule (open loop), {@code 0} or
+     *            negative to run in closed loop
+     * @since 0.1.4
+     */
+    public Benchmark(Operation operation, int numberOfRun, int concurrentLevel,
+            double targetRate) {
+        this.operation = operation;
+        this.concurrentLevel = concurrentLevel;
+        this.numberOfRun = numberOfRun;
+        this.targetRate = targetRate;
+        this.barrier = new CyclicBarrier(concurrentLevel + 1);
+    }
+
+    /**
+     * Limits how long a closed loop run lasts: it stops after
+     * {@code durationMillisecs} even if fewer than {@code numberOfRun}
+     * operations have been run. Open loop runs always run all operations
+     * ({@code numberOfRun / targetRate} seconds at the target rate), so that
+     * operations delayed by a slow system are still measured.
+     *
+     * @param durationMillisecs
+     *            {@code 0} for no limit
+     * @return
+     * @since 0.1.4
+     */
+    public Benchmark setDurationMillisecs(long durationMillisecs) {
+        this.durationNanos = TimeUnit.MILLISECONDS.toNanos(durationMillisecs);
+        return this;
+    }
+
+    private abstract class Worker implements Runnable {
+        final LatencyHistogram latencies = new LatencyHistogram();
+        int count;
+
+        @Override
+        public void run() {
+            try {
+                startSignal.await();
+                runOperations();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            } finally {
+                try {
+                    barrier.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                } catch (BrokenBarrierException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        }
+
+        protected abstract void runOperations();
+    }
+
+    /**
+     * Runs its operations back-to-back.
+     */
+    private class ClosedLoopWorker extends Worker {
+        final int first;
+
+        public ClosedLoopWorker(int first) {
+            this.first = first;
+        }
+
+        @Override
+        protected void runOperations() {
+            long deadline = startNanos + durationNanos;
+            for (int runId = first; runId < numberOfRun; runId += concurrentLevel) {
+                long before = System.nanoTime();
+                if (durationNanos > 0 && before - deadline >= 0) {
+                    break;
+                }
+                operation.run(runId);
+                latencies.record(System.nanoTime() - before);
+                count++;
+            }
+        }
+    }
+
+    /**
+     * Runs each of its operations at its scheduled time; an operation
+     * scheduled while the worker is still busy starts as soon as the worker is
+     * free.
+     */
+    private class OpenLoopWorker extends Worker {
+        final LatencyHistogram correctedLatencies = new LatencyHistogram();
+        final int first;
+
+        public OpenLoopWorker(int first) {
+            this.first = first;
+        }
+
+        @Override
+        protected void runOperations() {
+            double intervalNanos = TimeUnit.SECONDS.toNanos(1) / targetRate;
+            for (int runId = first; runId < numberOfRun; runId += concurrentLevel) {
+                long scheduled = startNanos + (long) (runId * intervalNanos);
+                long now;
+                while ((now = System.nanoTime()) - scheduled < 0) {
+                    LockSupport.parkNanos(scheduled - now);
+                }
+                operation.run(runId);
+                long end = System.nanoTime();
+                latencies.record(end - now);
+                correctedLatencies.record(end - scheduled);
+                count++;
+            }
+        }
+    }
+
+    public BenchmarkResult run() {
+        Worker[] workers = new Worker[concurrentLevel];
+        for (int i = 0; i < concurrentLevel; i++) {
+            workers[i] = targetRate > 0 ? new OpenLoopWorker(i) : new ClosedLoopWorker(i);
+            new Thread(workers[i]).start();
+        }
+
+        startNanos = System.nanoTime();
+        startSignal.countDown();
+        try {
+            barrier.await();
+        } catch (InterruptedException e) {
+            e.printStackTrace();
+        } catch (BrokenBarrierException e) {
+            e.printStackTrace();
+        }
+        long totalNanos = System.nanoTime() - startNanos;
+
+        int count = 0;
+        LatencyHistogram latencies = new LatencyHistogram();
+        LatencyHistogram correctedLatencies = targetRate > 0 ? new LatencyHistogram() : null;
+        for (Worker worker : workers) {
+            count += worker.count;
+            latencies.add(worker.latencies);
+            if (worker instanceof OpenLoopWorker) {
+                correctedLatencies.add(((OpenLoopWorker) worker).correctedLatencies);
+            }
+        }
+        return new BenchmarkResult(count, totalNanos, targetRate, latencies, correctedLatencies);
+    }
+}
@@ -0,0 +1,108 @@
+package com.github.ddth.frontapi.test;
+
+public class BenchmarkResult {
+    private final int count;
+    private final double rate;
+    private final long totalNanos;
+    private final double targetRate;
+    private final LatencyHistogram latencies;
+    private final LatencyHistogram correctedLatencies;
+
+    /**
+     * @param count
+     * @param totalNanos
+     * @param targetRate
+     *            {@code 0} for a closed loop run
+     * @param latencies
+     * @param correctedLatencies
+     *            {@code null} for a closed loop run
+     * @since 0.1.4
+     */
+    public BenchmarkResult(int count, long totalNanos, double targetRate,
+            LatencyHistogram latencies, LatencyHistogram correctedLatencies) {
+        this.count = count;
+        this.totalNanos = totalNanos;
+        this.rate = totalNanos > 0 ? count * 1E9 / totalNanos : 0;
+        this.targetRate = targetRate;
+        this.latencies = latencies;
+        this.correctedLatencies = correctedLatencies;
+    }
+
+    private static String percentiles(LatencyHistogram histogram) {
+        return String.format("%.3f/%.3f/%.3f/%.3f/%.3f/%.3f", histogram.getMean() / 1E6,
+                histogram.getValueAtPercentile(50) / 1E6,
+                histogram.getValueAtPercentile(90) / 1E6,
+                histogram.getValueAtPercentile(99) / 1E6,
+                histogram.getValueAtPercentile(99.9) / 1E6, histogram.getMax() / 1E6);
+    }
+
+    public String summarize() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Completed %d ops in %.3f secs (~%.3f ops/sec", count,
+                totalNanos / 1E9, rate));
+        if (targetRate > 0) {
+            sb.append(String.format(", target %.3f ops/sec", targetRate));
+        }
+        sb.append("), op time mean/p50/p90/p99/p99.9/max: ").append(percentiles(latencies))
+                .append(" (ms)");
+        if (correctedLatencies != null) {
+            sb.append(", corrected: ").append(percentiles(correctedLatencies)).append(" (ms)");
+        }
+        return sb.toString();
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Achieved throughput, in ops/sec.
+     *
+     * @return
+     */
+    public double getRate() {
+        return rate;
+    }
+
+    /**
+     * Scheduled throughput (in ops/sec) of an open loop run, {@code 0} for a
+     * closed loop run.
+     *
+     * @return
+     * @since 0.1.4
+     */
+    public double getTargetRate() {
+        return targetRate;
+    }
+
+    /**
+     * @return
+     * @since 0.1.4
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Service times (from the actual start of each operation), in
+     * nanoseconds.
+     *
+     * @return
+     * @since 0.1.4
+     */
+    public LatencyHistogram getLatencies() {
+        return latencies;
+    }
+
+    /**
+     * Response times from the scheduled start of each operation (corrected for
+     * coordinated omission), in nanoseconds; {@code null} for a closed loop
+     * run.
+     *
+     * @return
+     * @since 0.1.4
+     */
+    public LatencyHistogram getCorrectedLatencies() {
+        return correctedLatencies;
+    }
+}
@@ -0,0 +1,137 @@
+package com.github.ddth.frontapi.test;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HDR-style histogram of latencies in nanoseconds: values are counted in
+ * log-linear buckets with a fixed relative precision (3 significant digits)
+ * across the whole range, so that tail percentiles of sub-millisecond and
+ * multi-second latencies are equally accurate; nothing is sampled.
+ *
+ * <p>
+ * Not thread-safe: record from one thread per histogram and {@link #add} them
+ * together afterwards.
+ * </p>
+ *
+ * @author Thanh Ba Nguyen <btnguyen2k@gmail.com>
+ * @since 0.1.4
+ */
+public class LatencyHistogram {
+
+    /**
+     * Values up to {@code 2^SUB_BUCKET_BITS} are counted exactly; above, each
+     * power-of-2 range is split into {@code 2^(SUB_BUCKET_BITS-1)} buckets.
+     */
+    private final static int SUB_BUCKET_BITS = 11;
+    private final static int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private final static int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT / 2;
+
+    /**
+     * Highest trackable value, larger values are counted as this value.
+     */
+    public final static long MAX_VALUE = TimeUnit.HOURS.toNanos(1);
+
+    private final long[] counts = new long[indexOf(MAX_VALUE) + 1];
+    private long totalCount, minValue = Long.MAX_VALUE, maxValue;
+    private double sum;
+
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+        return shift * SUB_BUCKET_HALF_COUNT + (int) (value >>> shift);
+    }
+
+    /**
+     * Highest value counted in the bucket at {@code index}.
+     *
+     * @param index
+     * @return
+     */
+    private static long highestValueAt(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_HALF_COUNT - 1;
+        long lowest = (long) (index - shift * SUB_BUCKET_HALF_COUNT) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos
+     * @return
+     */
+    public LatencyHistogram record(long nanos) {
+        long value = nanos < 0 ? 0 : nanos > MAX_VALUE ? MAX_VALUE : nanos;
+        counts[indexOf(value)]++;
+        totalCount++;
+        sum += value;
+        if (value < minValue) {
+            minValue = value;
+        }
+        if (value > maxValue) {
+            maxValue = value;
+        }
+        return this;
+    }
+
+    /**
+     * Adds all values recorded by another histogram to this one.
+     *
+     * @param other
+     * @return
+     */
+    public LatencyHistogram add(LatencyHistogram other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+        sum += other.sum;
+        minValue = Math.min(minValue, other.minValue);
+        maxValue = Math.max(maxValue, other.maxValue);
+        return this;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public long getMin() {
+        return totalCount > 0 ? minValue : 0;
+    }
+
+    public long getMax() {
+        return maxValue;
+    }
+
+    public double getMean() {
+        return totalCount > 0 ? sum / totalCount : 0;
+    }
+
+    /**
+     * Value at a percentile: the (equivalent) value that {@code percentile}%
+     * of recorded values are less than or equal to.
+     *
+     * @param percentile
+     *            {@code 0.0} to {@code 100.0}
+     * @return
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        long countAtPercentile = Math.max(1,
+                (long) Math.ceil(Math.min(percentile, 100.0) / 100.0 * totalCount));
+        long count = 0;
+        for (int i = 0; i < counts.length; i++) {
+            count += counts[i];
+            if (count >= countAtPercentile) {
+                return Math.min(highestValueAt(i), maxValue);
+            }
+        }
+        return maxValue;
+    }
+}
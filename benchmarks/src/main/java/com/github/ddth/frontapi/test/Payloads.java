@@ -0,0 +1,90 @@
+package com.github.ddth.frontapi.test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Payload profiles used as API input by benchmarks.
+ *
+ * <ul>
+ * <li>{@value #EMPTY}: an empty map.</li>
+ * <li>{@value #SMALL}: a flat record of a few fields (~50 bytes as Json).</li>
+ * <li>{@value #MEDIUM}: a list of 20 records (~1KB).</li>
+ * <li>{@value #LARGE}: a list of 1000 records (~60KB).</li>
+ * <li>{@value #NESTED}: records nested 10 levels deep, each with 3 children,
+ * one of which goes a level deeper (~1.6KB).</li>
+ * </ul>
+ *
+ * @author Thanh Ba Nguyen <btnguyen2k@gmail.com>
+ * @since 0.1.4
+ */
+public class Payloads {
+
+    public final static String EMPTY = "empty";
+    public final static String SMALL = "small";
+    public final static String MEDIUM = "medium";
+    public final static String LARGE = "large";
+    public final static String NESTED = "nested";
+
+    /**
+     * Builds the payload of a profile.
+     *
+     * @param profile
+     * @return
+     * @throws IllegalArgumentException
+     *             if the profile is unknown
+     */
+    public static Map<String, Object> payload(String profile) {
+        if (EMPTY.equalsIgnoreCase(profile)) {
+            return new HashMap<String, Object>();
+        }
+        if (SMALL.equalsIgnoreCase(profile)) {
+            return record(0);
+        }
+        if (MEDIUM.equalsIgnoreCase(profile)) {
+            return records(20);
+        }
+        if (LARGE.equalsIgnoreCase(profile)) {
+            return records(1000);
+        }
+        if (NESTED.equalsIgnoreCase(profile)) {
+            return nested(0, 10, 3);
+        }
+        throw new IllegalArgumentException("Unknown payload profile [" + profile + "]!");
+    }
+
+    private static Map<String, Object> record(int id) {
+        Map<String, Object> result = new HashMap<String, Object>();
+        result.put("id", id);
+        result.put("name", "record-" + id);
+        result.put("active", id % 2 == 0);
+        result.put("score", id * 1.5);
+        return result;
+    }
+
+    private static Map<String, Object> records(int num) {
+        List<Object> records = new ArrayList<Object>(num);
+        for (int i = 0; i < num; i++) {
+            records.add(record(i));
+        }
+        Map<String, Object> result = new HashMap<String, Object>();
+        result.put("total", num);
+        result.put("records", records);
+        return result;
+    }
+
+    private static Map<String, Object> nested(int level, int depth, int numChildren) {
+        Map<String, Object> result = record(level);
+        if (level < depth - 1) {
+            List<Object> children = new ArrayList<Object>(numChildren);
+            children.add(nested(level + 1, depth, numChildren));
+            for (int i = 1; i < numChildren; i++) {
+                children.add(record(level * numChildren + i));
+            }
+            result.put("children", children);
+        }
+        return result;
+    }
+}
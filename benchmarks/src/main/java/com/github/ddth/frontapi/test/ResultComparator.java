@@ -0,0 +1,233 @@
+package com.github.ddth.frontapi.test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares two result files written by {@link ResultExporter} (a baseline and
+ * a current run) scenario by scenario, and flags regressions beyond a
+ * threshold:
+ *
+ * <ul>
+ * <li>throughput ({@code ops_per_sec}) lower than baseline by more than
+ * {@code threshold}%,</li>
+ * <li>tail latency (p99, p99.9, and their corrected values for open loop
+ * runs) higher than baseline by more than {@code threshold}%,</li>
+ * <li>more errors than baseline.</li>
+ * </ul>
+ *
+ * <p>
+ * Usage:
+ * {@code ResultComparator <baseline.json> <current.json> [threshold-percent]}
+ * ; prints the comparison and exits with status {@code 1} if any regression
+ * is found, so that it can gate upgrades in scripts.
+ * </p>
+ *
+ * @author Thanh Ba Nguyen <btnguyen2k@gmail.com>
+ * @since 0.1.4
+ */
+public class ResultComparator {
+
+    public final static double DEFAULT_THRESHOLD_PERCENT = 10;
+
+    /**
+     * Tail latency fields that are compared.
+     */
+    private final static String[] TAIL_LATENCY_FIELDS = { "p99", "p99_9" };
+
+    /**
+     * Comparison of one metric of one scenario.
+     */
+    public static class Comparison {
+        private final String scenario, metric;
+        private final double baseline, current;
+        private final boolean regression;
+
+        public Comparison(String scenario, String metric, double baseline, double current,
+                boolean regression) {
+            this.scenario = scenario;
+            this.metric = metric;
+            this.baseline = baseline;
+            this.current = current;
+            this.regression = regression;
+        }
+
+        public String getScenario() {
+            return scenario;
+        }
+
+        public String getMetric() {
+            return metric;
+        }
+
+        public double getBaseline() {
+            return baseline;
+        }
+
+        public double getCurrent() {
+            return current;
+        }
+
+        /**
+         * Change relative to baseline, in percent.
+         *
+         * @return
+         */
+        public double getChangePercent() {
+            return baseline != 0 ? (current - baseline) * 100.0 / baseline : 0;
+        }
+
+        public boolean isRegression() {
+            return regression;
+        }
+    }
+
+    private final double thresholdPercent;
+
+    public ResultComparator() {
+        this(DEFAULT_THRESHOLD_PERCENT);
+    }
+
+    public ResultComparator(double thresholdPercent) {
+        this.thresholdPercent = thresholdPercent;
+    }
+
+    public double getThresholdPercent() {
+        return thresholdPercent;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Map<String, Object>> resultsByScenario(Map<String, Object> data) {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<String, Map<String, Object>>();
+        Object results = data.get(ResultExporter.FIELD_RESULTS);
+        if (results instanceof List) {
+            for (Object entry : (List<Object>) results) {
+                if (entry instanceof Map) {
+                    Map<String, Object> map = (Map<String, Object>) entry;
+                    result.put(String.valueOf(map.get(ResultExporter.FIELD_SCENARIO)), map);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static Double number(Map<String, Object> map, String field) {
+        Object value = map != null ? map.get(field) : null;
+        return value instanceof Number ? ((Number) value).doubleValue() : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void compareLatencies(List<Comparison> result, String scenario, String field,
+            Map<String, Object> baseline, Map<String, Object> current) {
+        Map<String, Object> baselineLatencies = (Map<String, Object>) baseline.get(field);
+        Map<String, Object> currentLatencies = (Map<String, Object>) current.get(field);
+        for (String latencyField : TAIL_LATENCY_FIELDS) {
+            Double b = number(baselineLatencies, latencyField);
+            Double c = number(currentLatencies, latencyField);
+            if (b != null && c != null) {
+                result.add(new Comparison(scenario, field + "." + latencyField, b, c,
+                        c > b * (1 + thresholdPercent / 100)));
+            }
+        }
+    }
+
+    /**
+     * Compares the results of scenarios found in both files; scenarios found
+     * in only one of them are ignored.
+     *
+     * @param baselineData
+     *            content of the baseline file
+     * @param currentData
+     *            content of the current file
+     * @return
+     */
+    public List<Comparison> compare(Map<String, Object> baselineData,
+            Map<String, Object> currentData) {
+        Map<String, Map<String, Object>> baselineResults = resultsByScenario(baselineData);
+        List<Comparison> result = new ArrayList<Comparison>();
+        for (Map.Entry<String, Map<String, Object>> entry : resultsByScenario(currentData)
+                .entrySet()) {
+            String scenario = entry.getKey();
+            Map<String, Object> current = entry.getValue();
+            Map<String, Object> baseline = baselineResults.get(scenario);
+            if (baseline == null) {
+                continue;
+            }
+            Double b = number(baseline, ResultExporter.FIELD_OPS_PER_SEC);
+            Double c = number(current, ResultExporter.FIELD_OPS_PER_SEC);
+            if (b != null && c != null) {
+                result.add(new Comparison(scenario, ResultExporter.FIELD_OPS_PER_SEC, b, c,
+                        c < b * (1 - thresholdPercent / 100)));
+            }
+            compareLatencies(result, scenario, ResultExporter.FIELD_LATENCY, baseline, current);
+            compareLatencies(result, scenario, ResultExporter.FIELD_CORRECTED_LATENCY, baseline,
+                    current);
+            b = number(baseline, "errors");
+            c = number(current, "errors");
+            if (b != null && c != null) {
+                result.add(new Comparison(scenario, "errors", b, c, c > b));
+            }
+        }
+        return result;
+    }
+
+    public List<Comparison> compare(File baselineFile, File currentFile) throws Exception {
+        return compare(ResultExporter.readJson(baselineFile),
+                ResultExporter.readJson(currentFile));
+    }
+
+    public static boolean hasRegression(List<Comparison> comparisons) {
+        for (Comparison comparison : comparisons) {
+            if (comparison.isRegression()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Formats comparisons as a table, one row per metric.
+     *
+     * @param comparisons
+     * @return
+     */
+    public static String toTable(List<Comparison> comparisons) {
+        int scenarioWidth = "scenario".length(), metricWidth = "metric".length();
+        for (Comparison comparison : comparisons) {
+            scenarioWidth = Math.max(scenarioWidth, comparison.getScenario().length());
+            metricWidth = Math.max(metricWidth, comparison.getMetric().length());
+        }
+        String format = "%-" + scenarioWidth + "s  %-" + metricWidth + "s  %12s  %12s  %8s  %s\n";
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(format, "scenario", "metric", "baseline", "current", "change",
+                ""));
+        for (Comparison comparison : comparisons) {
+            sb.append(String.format(format, comparison.getScenario(), comparison.getMetric(),
+                    String.format("%.3f", comparison.getBaseline()),
+                    String.format("%.3f", comparison.getCurrent()),
+                    String.format("%+.1f%%", comparison.getChangePercent()),
+                    comparison.isRegression() ? "REGRESSION" : ""));
+        }
+        return sb.toString();
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: " + ResultComparator.class.getName()
+                    + " <baseline.json> <current.json> [threshold-percent]");
+            System.exit(2);
+        }
+        ResultComparator comparator = new ResultComparator(
+                args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT);
+        List<Comparison> comparisons = comparator.compare(new File(args[0]), new File(args[1]));
+        System.out.print(toTable(comparisons));
+        boolean regression = hasRegression(comparisons);
+        System.out.println(regression ? "Regression(s) beyond "
+                + comparator.getThresholdPercent() + "% found!" : "No regression beyond "
+                + comparator.getThresholdPercent() + "%.");
+        System.exit(regression ? 1 : 0);
+    }
+}
@@ -0,0 +1,250 @@
+package com.github.ddth.frontapi.test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.apache.commons.io.IOUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Exports {@link ScenarioResult}s, together with metadata of the environment
+ * they were measured in, as Json (read back by {@link ResultComparator}) or
+ * CSV.
+ *
+ * <p>
+ * Json format ({@code corrected_latency_ms} is present for open loop runs
+ * only, latencies are in milliseconds):
+ * </p>
+ *
+ * <pre>
+ * {"environment": {"timestamp": ..., "host": ..., "java_version": ..., ...},
+ *  "results": [{"scenario": ..., "transport": ..., "ops_per_sec": ...,
+ *               "latency_ms": {"mean": ..., "p50": ..., ..., "max": ...},
+ *               "corrected_latency_ms": {...}}, ...]}
+ * </pre>
+ *
+ * @author Thanh Ba Nguyen <btnguyen2k@gmail.com>
+ * @since 0.1.4
+ */
+public class ResultExporter {
+
+    public final static String FIELD_ENVIRONMENT = "environment";
+    public final static String FIELD_RESULTS = "results";
+    public final static String FIELD_SCENARIO = "scenario";
+    public final static String FIELD_OPS_PER_SEC = "ops_per_sec";
+    public final static String FIELD_LATENCY = "latency_ms";
+    public final static String FIELD_CORRECTED_LATENCY = "corrected_latency_ms";
+
+    /**
+     * Latency fields, in order.
+     */
+    public final static String[] LATENCY_FIELDS = { "mean", "p50", "p90", "p99", "p99_9",
+            "max" };
+
+    private final static String FRONTAPI_POM_PROPERTIES = "/META-INF/maven/com.github.ddth/"
+            + "osgi-bundle-frontapi/pom.properties";
+
+    private final static ObjectMapper mapper = new ObjectMapper();
+
+    /**
+     * Version of the FrontApi bundle on the classpath, from its Maven
+     * metadata.
+     *
+     * @return {@code null} if not found
+     */
+    private static String frontApiVersion() {
+        InputStream is = ResultExporter.class.getResourceAsStream(FRONTAPI_POM_PROPERTIES);
+        if (is == null) {
+            return null;
+        }
+        try {
+            Properties props = new Properties();
+            props.load(is);
+            return props.getProperty("version");
+        } catch (Exception e) {
+            return null;
+        } finally {
+            IOUtils.closeQuietly(is);
+        }
+    }
+
+    /**
+     * Metadata of the environment benchmarks run in: time, host, JVM, OS,
+     * CPUs, memory and FrontApi version.
+     *
+     * @return
+     */
+    public static Map<String, Object> environment() {
+        Map<String, Object> result = new LinkedHashMap<String, Object>();
+        result.put("timestamp",
+                new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssZ").format(new Date()));
+        try {
+            result.put("host", InetAddress.getLocalHost().getHostName());
+        } catch (Exception e) {
+            result.put("host", null);
+        }
+        result.put("frontapi_version", frontApiVersion());
+        result.put("java_version", System.getProperty("java.version"));
+        result.put("java_vm", System.getProperty("java.vm.name") + " "
+                + System.getProperty("java.vm.version"));
+        result.put("jvm_args", ManagementFactory.getRuntimeMXBean().getInputArguments());
+        result.put("os", System.getProperty("os.name") + " " + System.getProperty("os.version")
+                + " " + System.getProperty("os.arch"));
+        result.put("cpus", Runtime.getRuntime().availableProcessors());
+        result.put("max_heap_bytes", Runtime.getRuntime().maxMemory());
+        return result;
+    }
+
+    private static Map<String, Object> latencies(LatencyHistogram histogram) {
+        Map<String, Object> result = new LinkedHashMap<String, Object>();
+        result.put(LATENCY_FIELDS[0], histogram.getMean() / 1E6);
+        result.put(LATENCY_FIELDS[1], histogram.getValueAtPercentile(50) / 1E6);
+        result.put(LATENCY_FIELDS[2], histogram.getValueAtPercentile(90) / 1E6);
+        result.put(LATENCY_FIELDS[3], histogram.getValueAtPercentile(99) / 1E6);
+        result.put(LATENCY_FIELDS[4], histogram.getValueAtPercentile(99.9) / 1E6);
+        result.put(LATENCY_FIELDS[5], histogram.getMax() / 1E6);
+        return result;
+    }
+
+    /**
+     * Converts a result (and the settings of its scenario) to a map.
+     *
+     * @param scenarioResult
+     * @return
+     */
+    public static Map<String, Object> toMap(ScenarioResult scenarioResult) {
+        Scenario scenario = scenarioResult.getScenario();
+        BenchmarkResult benchmarkResult = scenarioResult.getBenchmarkResult();
+        Map<String, Object> result = new LinkedHashMap<String, Object>();
+        result.put(FIELD_SCENARIO, scenario.getName());
+        result.put("transport", scenario.getTransport());
+        result.put("api", scenario.getModuleName() + "/" + scenario.getApiName());
+        result.put("payload", scenario.getPayload());
+        result.put("concurrency", scenario.getConcurrency());
+        result.put("target_rate", benchmarkResult.getTargetRate());
+        result.put("count", benchmarkResult.getCount());
+        result.put("errors", scenarioResult.getNumErrors());
+        result.put("duration_ms", benchmarkResult.getTotalNanos() / 1E6);
+        result.put(FIELD_OPS_PER_SEC, benchmarkResult.getRate());
+        result.put(FIELD_LATENCY, latencies(benchmarkResult.getLatencies()));
+        if (benchmarkResult.getCorrectedLatencies() != null) {
+            result.put(FIELD_CORRECTED_LATENCY,
+                    latencies(benchmarkResult.getCorrectedLatencies()));
+        }
+        return result;
+    }
+
+    public static Map<String, Object> toMap(Map<String, Object> environment,
+            List<ScenarioResult> results) {
+        List<Object> resultList = new ArrayList<Object>();
+        for (ScenarioResult result : results) {
+            resultList.add(toMap(result));
+        }
+        Map<String, Object> result = new LinkedHashMap<String, Object>();
+        result.put(FIELD_ENVIRONMENT, environment);
+        result.put(FIELD_RESULTS, resultList);
+        return result;
+    }
+
+    public static void writeJson(File file, Map<String, Object> environment,
+            List<ScenarioResult> results) throws Exception {
+        mapper.writerWithDefaultPrettyPrinter().writeValue(file, toMap(environment, results));
+    }
+
+    /**
+     * Reads a Json file written by {@link #writeJson(File, Map, List)}.
+     *
+     * @param file
+     * @return
+     * @throws Exception
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> readJson(File file) throws Exception {
+        return mapper.readValue(file, Map.class);
+    }
+
+    private static String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String str = value.toString();
+        if (str.indexOf(',') >= 0 || str.indexOf('"') >= 0 || str.indexOf('\n') >= 0) {
+            return "\"" + str.replace("\"", "\"\"") + "\"";
+        }
+        return str;
+    }
+
+    /**
+     * Writes results as CSV, one row per scenario; latency maps are flattened
+     * to {@code latency_ms.<field>} columns, environment metadata is repeated
+     * on each row as {@code env.<field>} columns.
+     *
+     * @param file
+     * @param environment
+     * @param results
+     * @throws Exception
+     */
+    @SuppressWarnings("unchecked")
+    public static void writeCsv(File file, Map<String, Object> environment,
+            List<ScenarioResult> results) throws Exception {
+        List<Map<String, Object>> rows = new ArrayList<Map<String, Object>>();
+        for (ScenarioResult scenarioResult : results) {
+            Map<String, Object> row = new LinkedHashMap<String, Object>();
+            for (Map.Entry<String, Object> entry : toMap(scenarioResult).entrySet()) {
+                if (entry.getValue() instanceof Map) {
+                    for (Map.Entry<String, Object> field : ((Map<String, Object>) entry
+                            .getValue()).entrySet()) {
+                        row.put(entry.getKey() + "." + field.getKey(), field.getValue());
+                    }
+                } else {
+                    row.put(entry.getKey(), entry.getValue());
+                }
+            }
+            if (scenarioResult.getBenchmarkResult().getCorrectedLatencies() == null) {
+                // keep columns aligned with open loop rows
+                for (String field : LATENCY_FIELDS) {
+                    row.put(FIELD_CORRECTED_LATENCY + "." + field, null);
+                }
+            }
+            for (Map.Entry<String, Object> entry : environment.entrySet()) {
+                row.put("env." + entry.getKey(), entry.getValue());
+            }
+            rows.add(row);
+        }
+
+        Writer writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+        try {
+            if (!rows.isEmpty()) {
+                StringBuilder sb = new StringBuilder();
+                for (String column : rows.get(0).keySet()) {
+                    sb.append(sb.length() > 0 ? "," : "").append(csvValue(column));
+                }
+                writer.write(sb.append("\n").toString());
+            }
+            for (Map<String, Object> row : rows) {
+                StringBuilder sb = new StringBuilder();
+                boolean first = true;
+                for (Object value : row.values()) {
+                    sb.append(first ? "" : ",").append(csvValue(value));
+                    first = false;
+                }
+                writer.write(sb.append("\n").toString());
+            }
+        } finally {
+            IOUtils.closeQuietly(writer);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.github.ddth.frontapi.test;
+
+import java.util.Properties;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * A benchmark scenario: which API to call over which transport, how (number
+ * of threads, closed loop or fixed rate, how long) and with which payload.
+ *
+ * <p>
+ * Scenarios are loaded from a {@link Properties} config: setting
+ * {@code <key>} of scenario {@code <name>} is read from
+ * {@code scenario.<name>.<key>}, falling back to {@code <key>} (shared by all
+ * scenarios), then to the built-in default.
+ * </p>
+ *
+ * @author Thanh Ba Nguyen <btnguyen2k@gmail.com>
+ * @since 0.1.4
+ */
+public class Scenario {
+
+    public final static String TRANSPORT_REST = "rest";
+    public final static String TRANSPORT_THRIFT = "thrift";
+    public final static String TRANSPORT_THRIFT_POOLED = "thrift_pooled";
+    public final static String TRANSPORT_THRIFT_PIPELINED = "thrift_pipelined";
+    public final static String TRANSPORT_THRIFT_ASYNC = "thrift_async";
+
+    public final static String CONF_SCENARIOS = "scenarios";
+    public final static String CONF_TRANSPORT = "transport";
+    public final static String CONF_CONCURRENCY = "concurrency";
+    public final static String CONF_DURATION = "duration";
+    public final static String CONF_WARMUP = "warmup";
+    public final static String CONF_RATE = "rate";
+    public final static String CONF_PAYLOAD = "payload";
+    public final static String CONF_AUTH_KEY = "auth_key";
+    public final static String CONF_MODULE = "module";
+    public final static String CONF_API = "api";
+
+    public final static int DEFAULT_CONCURRENCY = 16;
+    public final static long DEFAULT_DURATION_SECS = 30;
+    public final static long DEFAULT_WARMUP_SECS = 5;
+
+    private final Properties config;
+    private final String name;
+
+    public Scenario(Properties config, String name) {
+        this.config = config;
+        this.name = name;
+    }
+
+    /**
+     * Loads all scenarios listed (comma-separated, in order) by config
+     * {@value #CONF_SCENARIOS}.
+     *
+     * @param config
+     * @return
+     */
+    public static Scenario[] loadAll(Properties config) {
+        String[] names = StringUtils.split(config.getProperty(CONF_SCENARIOS, ""), ", ");
+        Scenario[] result = new Scenario[names.length];
+        for (int i = 0; i < names.length; i++) {
+            result[i] = new Scenario(config, names[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Reads a setting of this scenario.
+     *
+     * @param key
+     * @param defaultValue
+     * @return
+     */
+    public String getProperty(String key, String defaultValue) {
+        String value = config.getProperty("scenario." + name + "." + key);
+        if (value == null) {
+            value = config.getProperty(key, defaultValue);
+        }
+        return value != null ? value.trim() : null;
+    }
+
+    public int getIntProperty(String key, int defaultValue) {
+        String value = getProperty(key, null);
+        return StringUtils.isBlank(value) ? defaultValue : Integer.parseInt(value);
+    }
+
+    public double getDoubleProperty(String key, double defaultValue) {
+        String value = getProperty(key, null);
+        return StringUtils.isBlank(value) ? defaultValue : Double.parseDouble(value);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * One of {@code TRANSPORT_*}.
+     *
+     * @return
+     */
+    public String getTransport() {
+        return getProperty(CONF_TRANSPORT, TRANSPORT_THRIFT);
+    }
+
+    /**
+     * Number of threads calling the API.
+     *
+     * @return
+     */
+    public int getConcurrency() {
+        return getIntProperty(CONF_CONCURRENCY, DEFAULT_CONCURRENCY);
+    }
+
+    public long getDurationMillisecs() {
+        return (long) (getDoubleProperty(CONF_DURATION, DEFAULT_DURATION_SECS) * 1000);
+    }
+
+    public long getWarmupMillisecs() {
+        return (long) (getDoubleProperty(CONF_WARMUP, DEFAULT_WARMUP_SECS) * 1000);
+    }
+
+    /**
+     * Target rate (ops/sec) to run in open loop, {@code 0} to run in closed
+     * loop.
+     *
+     * @return
+     */
+    public double getTargetRate() {
+        return getDoubleProperty(CONF_RATE, 0);
+    }
+
+    /**
+     * Payload profile, see {@link Payloads}.
+     *
+     * @return
+     */
+    public String getPayload() {
+        return getProperty(CONF_PAYLOAD, Payloads.EMPTY);
+    }
+
+    public String getAuthKey() {
+        return getProperty(CONF_AUTH_KEY, "-");
+    }
+
+    public String getModuleName() {
+        return getProperty(CONF_MODULE, "frontapi");
+    }
+
+    public String getApiName() {
+        return getProperty(CONF_API, "ping");
+    }
+}
@@ -0,0 +1,38 @@
+package com.github.ddth.frontapi.test;
+
+/**
+ * Result of running a {@link Scenario}.
+ *
+ * @author Thanh Ba Nguyen <btnguyen2k@gmail.com>
+ * @since 0.1.4
+ */
+public class ScenarioResult {
+
+    private final Scenario scenario;
+    private final BenchmarkResult benchmarkResult;
+    private final long numErrors;
+
+    public ScenarioResult(Scenario scenario, BenchmarkResult benchmarkResult, long numErrors) {
+        this.scenario = scenario;
+        this.benchmarkResult = benchmarkResult;
+        this.numErrors = numErrors;
+    }
+
+    public Scenario getScenario() {
+        return scenario;
+    }
+
+    public BenchmarkResult getBenchmarkResult() {
+        return benchmarkResult;
+    }
+
+    /**
+     * Number of calls that failed or were not answered with status
+     * {@code 200}.
+     *
+     * @return
+     */
+    public long getNumErrors() {
+        return numErrors;
+    }
+}
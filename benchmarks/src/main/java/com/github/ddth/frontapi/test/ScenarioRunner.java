@@ -0,0 +1,331 @@
+package com.github.ddth.frontapi.test;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.commons.io.IOUtils;
+
+import com.github.ddth.frontapi.ApiResult;
+import com.github.ddth.frontapi.IApi;
+import com.github.ddth.frontapi.client.AsyncThriftApiClient;
+import com.github.ddth.frontapi.client.IApiClient;
+import com.github.ddth.frontapi.client.PipelinedThriftApiClient;
+import com.github.ddth.frontapi.client.PooledThriftApiClient;
+import com.github.ddth.frontapi.client.RestApiClient;
+import com.github.ddth.frontapi.client.ThriftApiClient;
+import com.github.ddth.frontapi.client.ThriftApiClient.DataEncoding;
+import com.github.ddth.frontapi.internal.thrift.ThriftUtils;
+
+/**
+ * Runs the {@link Scenario}s of a config file one after another against
+ * running servers and prints a comparison table of their results.
+ *
+ * <p>
+ * Usage: {@code ScenarioRunner [config-file]}, config file defaults to
+ * {@value #DEFAULT_CONFIG_FILE}. Besides scenario settings (see
+ * {@link Scenario}), the config file holds where servers listen:
+ * {@value #CONF_REST_ENDPOINT}, {@value #CONF_THRIFT_HOST},
+ * {@value #CONF_THRIFT_PORT}, plus {@value #CONF_THRIFT_PROTOCOL} and
+ * {@value #CONF_THRIFT_DATA_ENCODING} of Thrift clients; these can also be
+ * overridden per scenario.
+ * </p>
+ *
+ * <p>
+ * Results can also be exported (see {@link ResultExporter}) to the files set
+ * by {@value #CONF_OUTPUT_JSON} and {@value #CONF_OUTPUT_CSV}, and compared
+ * with the Json results of a previous run set by {@value #CONF_BASELINE} (see
+ * {@link ResultComparator}, threshold set by {@value #CONF_THRESHOLD}); the
+ * runner then exits with status {@code 1} if any regression is found.
+ * </p>
+ *
+ * @author Thanh Ba Nguyen <btnguyen2k@gmail.com>
+ * @since 0.1.4
+ */
+public class ScenarioRunner {
+
+    public final static String DEFAULT_CONFIG_FILE = "scenarios.properties";
+
+    public final static String CONF_REST_ENDPOINT = "rest.endpoint";
+    public final static String CONF_THRIFT_HOST = "thrift.host";
+    public final static String CONF_THRIFT_PORT = "thrift.port";
+    public final static String CONF_THRIFT_PROTOCOL = "thrift.protocol";
+    public final static String CONF_THRIFT_DATA_ENCODING = "thrift.data_encoding";
+
+    public final static String CONF_OUTPUT_JSON = "output.json";
+    public final static String CONF_OUTPUT_CSV = "output.csv";
+    public final static String CONF_BASELINE = "baseline";
+    public final static String CONF_THRESHOLD = "threshold";
+
+    public final static String DEFAULT_REST_ENDPOINT = "http://localhost:8080/api";
+    public final static String DEFAULT_THRIFT_HOST = "localhost";
+    public final static int DEFAULT_THRIFT_PORT = 9090;
+
+    /**
+     * Creates clients of the scenario's transport, one per thread: thread-safe
+     * clients are shared by all threads, {@link ThriftApiClient}s are not.
+     *
+     * @param scenario
+     * @return
+     * @throws Exception
+     */
+    private static IApiClient[] createClients(Scenario scenario) throws Exception {
+        String transport = scenario.getTransport();
+        int concurrency = scenario.getConcurrency();
+        String host = scenario.getProperty(CONF_THRIFT_HOST, DEFAULT_THRIFT_HOST);
+        int port = scenario.getIntProperty(CONF_THRIFT_PORT, DEFAULT_THRIFT_PORT);
+        String protocol = scenario.getProperty(CONF_THRIFT_PROTOCOL,
+                ThriftUtils.PROTOCOL_BINARY);
+        DataEncoding dataEncoding = DataEncoding.valueOf(scenario.getProperty(
+                CONF_THRIFT_DATA_ENCODING, DataEncoding.JSON_STRING.name()).toUpperCase());
+
+        IApiClient[] clients = new IApiClient[concurrency];
+        if (Scenario.TRANSPORT_THRIFT.equalsIgnoreCase(transport)) {
+            for (int i = 0; i < concurrency; i++) {
+                ThriftApiClient client = new ThriftApiClient(host, port).setProtocol(protocol)
+                        .setDataEncoding(dataEncoding);
+                client.init();
+                clients[i] = client;
+            }
+            return clients;
+        }
+
+        IApiClient client;
+        if (Scenario.TRANSPORT_REST.equalsIgnoreCase(transport)) {
+            RestApiClient restClient = new RestApiClient(scenario.getProperty(
+                    CONF_REST_ENDPOINT, DEFAULT_REST_ENDPOINT)).setMaxConnections(concurrency);
+            restClient.init();
+            client = restClient;
+        } else if (Scenario.TRANSPORT_THRIFT_POOLED.equalsIgnoreCase(transport)) {
+            PooledThriftApiClient pooledClient = new PooledThriftApiClient(host, port)
+                    .setProtocol(protocol).setDataEncoding(dataEncoding)
+                    .setMaxActive(concurrency).setMaxIdle(concurrency);
+            pooledClient.init();
+            client = pooledClient;
+        } else if (Scenario.TRANSPORT_THRIFT_PIPELINED.equalsIgnoreCase(transport)) {
+            PipelinedThriftApiClient pipelinedClient = new PipelinedThriftApiClient(host, port)
+                    .setProtocol(protocol).setDataEncoding(dataEncoding);
+            pipelinedClient.init();
+            client = pipelinedClient;
+        } else if (Scenario.TRANSPORT_THRIFT_ASYNC.equalsIgnoreCase(transport)) {
+            AsyncThriftApiClient asyncClient = new AsyncThriftApiClient(host, port)
+                    .setProtocol(protocol).setDataEncoding(dataEncoding);
+            asyncClient.init();
+            client = asyncClient;
+        } else {
+            throw new IllegalArgumentException("Unknown transport [" + transport
+                    + "] of scenario [" + scenario.getName() + "]!");
+        }
+        for (int i = 0; i < concurrency; i++) {
+            clients[i] = client;
+        }
+        return clients;
+    }
+
+    private static void destroyClients(IApiClient[] clients) {
+        Set<IApiClient> destroyed = new HashSet<IApiClient>();
+        for (IApiClient client : clients) {
+            if (client == null || !destroyed.add(client)) {
+                continue;
+            }
+            if (client instanceof ThriftApiClient) {
+                ((ThriftApiClient) client).destroy();
+            } else if (client instanceof RestApiClient) {
+                ((RestApiClient) client).destroy();
+            } else if (client instanceof PooledThriftApiClient) {
+                ((PooledThriftApiClient) client).destroy();
+            } else if (client instanceof PipelinedThriftApiClient) {
+                ((PipelinedThriftApiClient) client).destroy();
+            } else if (client instanceof AsyncThriftApiClient) {
+                ((AsyncThriftApiClient) client).destroy();
+            }
+        }
+    }
+
+    private static BenchmarkResult run(final Scenario scenario, final IApiClient[] clients,
+            long durationMillisecs, final AtomicLong numErrors) {
+        final String authKey = scenario.getAuthKey();
+        final String moduleName = scenario.getModuleName();
+        final String apiName = scenario.getApiName();
+        final Map<String, Object> payload = Payloads.payload(scenario.getPayload());
+        final AtomicReference<Exception> firstError = new AtomicReference<Exception>();
+        Operation operation = new Operation() {
+            @Override
+            public void run(int runId) {
+                try {
+                    ApiResult apiResult = clients[runId % clients.length].call(authKey,
+                            moduleName, apiName, payload);
+                    if (apiResult == null || apiResult.getStatus() != IApi.STATUS_OK) {
+                        numErrors.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    numErrors.incrementAndGet();
+                    firstError.compareAndSet(null, e);
+                }
+            }
+        };
+
+        double targetRate = scenario.getTargetRate();
+        int numberOfRun = targetRate > 0 ? (int) Math.min(Integer.MAX_VALUE,
+                Math.ceil(targetRate * durationMillisecs / 1000.0)) : Integer.MAX_VALUE;
+        BenchmarkResult result = new Benchmark(operation, numberOfRun, clients.length,
+                targetRate).setDurationMillisecs(durationMillisecs).run();
+        if (firstError.get() != null) {
+            System.err.println("Scenario [" + scenario.getName() + "]: " + numErrors.get()
+                    + " error(s), first one:");
+            firstError.get().printStackTrace();
+        }
+        return result;
+    }
+
+    /**
+     * Runs a scenario: warms up, then measures.
+     *
+     * @param scenario
+     * @return
+     * @throws Exception
+     */
+    public static ScenarioResult run(Scenario scenario) throws Exception {
+        IApiClient[] clients = createClients(scenario);
+        try {
+            long warmupMillisecs = scenario.getWarmupMillisecs();
+            if (warmupMillisecs > 0) {
+                run(scenario, clients, warmupMillisecs, new AtomicLong());
+            }
+            AtomicLong numErrors = new AtomicLong();
+            BenchmarkResult result = run(scenario, clients, scenario.getDurationMillisecs(),
+                    numErrors);
+            return new ScenarioResult(scenario, result, numErrors.get());
+        } finally {
+            destroyClients(clients);
+        }
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.3f", nanos / 1E6);
+    }
+
+    /**
+     * Formats results as a table, one row per scenario. Latencies are in
+     * milliseconds; corrected ones (open loop runs only) are prefixed with
+     * {@code c}.
+     *
+     * @param results
+     * @return
+     */
+    public static String toTable(List<ScenarioResult> results) {
+        String[] headers = { "scenario", "transport", "payload", "threads", "target/s", "ops/s",
+                "errors", "mean", "p50", "p90", "p99", "p99.9", "max", "c-p99", "c-p99.9" };
+        List<String[]> rows = new ArrayList<String[]>();
+        rows.add(headers);
+        for (ScenarioResult result : results) {
+            Scenario scenario = result.getScenario();
+            BenchmarkResult benchmarkResult = result.getBenchmarkResult();
+            LatencyHistogram latencies = benchmarkResult.getLatencies();
+            LatencyHistogram corrected = benchmarkResult.getCorrectedLatencies();
+            rows.add(new String[] {
+                    scenario.getName(),
+                    scenario.getTransport(),
+                    scenario.getPayload(),
+                    String.valueOf(scenario.getConcurrency()),
+                    benchmarkResult.getTargetRate() > 0 ? String.format("%.0f",
+                            benchmarkResult.getTargetRate()) : "-",
+                    String.format("%.0f", benchmarkResult.getRate()),
+                    String.valueOf(result.getNumErrors()),
+                    String.format("%.3f", latencies.getMean() / 1E6),
+                    millis(latencies.getValueAtPercentile(50)),
+                    millis(latencies.getValueAtPercentile(90)),
+                    millis(latencies.getValueAtPercentile(99)),
+                    millis(latencies.getValueAtPercentile(99.9)),
+                    millis(latencies.getMax()),
+                    corrected != null ? millis(corrected.getValueAtPercentile(99)) : "-",
+                    corrected != null ? millis(corrected.getValueAtPercentile(99.9)) : "-" });
+        }
+
+        int[] widths = new int[headers.length];
+        for (String[] row : rows) {
+            for (int i = 0; i < row.length; i++) {
+                widths[i] = Math.max(widths[i], row[i].length());
+            }
+        }
+        StringBuilder sb = new StringBuilder();
+        for (String[] row : rows) {
+            for (int i = 0; i < row.length; i++) {
+                // text columns left-aligned, numbers right-aligned
+                String format = i < 3 ? "%-" + widths[i] + "s" : "%" + widths[i] + "s";
+                sb.append(i > 0 ? "  " : "").append(String.format(format, row[i]));
+            }
+            sb.append("\n");
+        }
+        return sb.toString();
+    }
+
+    public static Properties loadConfig(String configFile) throws Exception {
+        Properties config = new Properties();
+        InputStream is = new FileInputStream(configFile);
+        try {
+            config.load(is);
+        } finally {
+            IOUtils.closeQuietly(is);
+        }
+        return config;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String configFile = args.length > 0 ? args[0] : DEFAULT_CONFIG_FILE;
+        Properties config = loadConfig(configFile);
+        Scenario[] scenarios = Scenario.loadAll(config);
+        if (scenarios.length == 0) {
+            System.err.println("No scenario found, set [" + Scenario.CONF_SCENARIOS + "] in ["
+                    + configFile + "]!");
+            System.exit(1);
+        }
+
+        List<ScenarioResult> results = new ArrayList<ScenarioResult>();
+        for (Scenario scenario : scenarios) {
+            System.out.println("Running scenario [" + scenario.getName() + "]...");
+            ScenarioResult result = run(scenario);
+            System.out.println(result.getBenchmarkResult().summarize());
+            results.add(result);
+        }
+        System.out.println();
+        System.out.print(toTable(results));
+
+        Map<String, Object> environment = ResultExporter.environment();
+        String outputJson = config.getProperty(CONF_OUTPUT_JSON, "").trim();
+        if (outputJson.length() > 0) {
+            ResultExporter.writeJson(new File(outputJson), environment, results);
+            System.out.println("Results written to [" + outputJson + "].");
+        }
+        String outputCsv = config.getProperty(CONF_OUTPUT_CSV, "").trim();
+        if (outputCsv.length() > 0) {
+            ResultExporter.writeCsv(new File(outputCsv), environment, results);
+            System.out.println("Results written to [" + outputCsv + "].");
+        }
+
+        boolean regression = false;
+        String baseline = config.getProperty(CONF_BASELINE, "").trim();
+        if (baseline.length() > 0) {
+            ResultComparator comparator = new ResultComparator(Double.parseDouble(config
+                    .getProperty(CONF_THRESHOLD,
+                            String.valueOf(ResultComparator.DEFAULT_THRESHOLD_PERCENT))));
+            List<ResultComparator.Comparison> comparisons = comparator.compare(
+                    ResultExporter.readJson(new File(baseline)),
+                    ResultExporter.toMap(environment, results));
+            System.out.println();
+            System.out.println("Compared with baseline [" + baseline + "], threshold "
+                    + comparator.getThresholdPercent() + "%:");
+            System.out.print(ResultComparator.toTable(comparisons));
+            regression = ResultComparator.hasRegression(comparisons);
+        }
+        System.exit(regression ? 1 : 0);
+    }
+}
@@ -0,0 +1,27 @@
+package com.github.ddth.frontapi;
+
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Abstract implementation of {@link IAsyncApi}: the synchronous
+ * {@link #call(ApiParams)} waits for {@link #callAsync(ApiParams)} to
+ * complete.
+ *
+ * @author Thanh Ba Nguyen <btnguyen2k@gmail.com>
+ * @since 0.1.4
+ */
+public abstract class AbstractAsyncApi implements IAsyncApi {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object call(ApiParams params) throws Exception {
+        try {
+            return callAsync(params).get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof Exception ? (Exception) cause : e;
+        }
+    }
+}
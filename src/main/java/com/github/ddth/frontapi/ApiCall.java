@@ -0,0 +1,47 @@
+package com.github.ddth.frontapi;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Encapsulates an API call in a batch: module name, API name and API's input
+ * parameters.
+ * 
+ * @author Thanh Ba Nguyen <btnguyen2k@gmail.com>
+ * @since 0.1.4
+ */
+public class ApiCall {
+
+    public final static String FIELD_MODULE_NAME = "moduleName", FIELD_API_NAME = "apiName",
+            FIELD_PARAMS = "params";
+
+    @JsonProperty
+    private String moduleName;
+
+    @JsonProperty
+    private String apiName;
+
+    @JsonProperty
+    private Object params;
+
+    public ApiCall() {
+    }
+
+    public ApiCall(String moduleName, String apiName, Object params) {
+        this.moduleName = moduleName;
+        this.apiName = apiName;
+        this.params = params;
+    }
+
+    public String getModuleName() {
+        return moduleName;
+    }
+
+    public String getApiName() {
+        return apiName;
+    }
+
+    public Object getParams() {
+        return params;
+    }
+
+}
@@ -0,0 +1,183 @@
+package com.github.ddth.frontapi;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * A {@link Future} that is completed explicitly by the producer and notifies
+ * registered {@link IApiCallback}s upon completion.
+ *
+ * @author Thanh Ba Nguyen <btnguyen2k@gmail.com>
+ * @since 0.1.4
+ */
+public class ApiFuture<T> implements Future<T> {
+
+    private final CountDownLatch latch = new CountDownLatch(1);
+    private List<IApiCallback<T>> callbacks = new ArrayList<IApiCallback<T>>();
+    private volatile boolean done = false, cancelled = false;
+    private T result;
+    private Exception error;
+
+    /**
+     * Creates an already-completed future.
+     *
+     * @param result
+     * @return
+     */
+    public static <T> ApiFuture<T> completed(T result) {
+        ApiFuture<T> future = new ApiFuture<T>();
+        future.complete(result);
+        return future;
+    }
+
+    /**
+     * Completes this future with a result.
+     *
+     * @param result
+     * @return {@code true} if this call completed the future, {@code false}
+     *         if the future had already been completed
+     */
+    public boolean complete(T result) {
+        List<IApiCallback<T>> toNotify;
+        synchronized (this) {
+            if (done) {
+                return false;
+            }
+            this.result = result;
+            toNotify = markDone();
+        }
+        for (IApiCallback<T> callback : toNotify) {
+            callback.onComplete(result);
+        }
+        return true;
+    }
+
+    /**
+     * Completes this future with an error.
+     *
+     * @param e
+     * @return {@code true} if this call completed the future, {@code false}
+     *         if the future had already been completed
+     */
+    public boolean fail(Exception e) {
+        List<IApiCallback<T>> toNotify;
+        synchronized (this) {
+            if (done) {
+                return false;
+            }
+            this.error = e;
+            toNotify = markDone();
+        }
+        for (IApiCallback<T> callback : toNotify) {
+            callback.onError(e);
+        }
+        return true;
+    }
+
+    private List<IApiCallback<T>> markDone() {
+        List<IApiCallback<T>> toNotify = callbacks;
+        callbacks = null;
+        done = true;
+        latch.countDown();
+        return toNotify;
+    }
+
+    /**
+     * Registers a callback. If the future has already completed, the callback
+     * is invoked immediately in the calling thread; otherwise it is invoked in
+     * the thread that completes the future.
+     *
+     * @param callback
+     * @return
+     */
+    public ApiFuture<T> addCallback(IApiCallback<T> callback) {
+        synchronized (this) {
+            if (!done) {
+                callbacks.add(callback);
+                return this;
+            }
+        }
+        if (error != null) {
+            callback.onError(error);
+        } else {
+            callback.onComplete(result);
+        }
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        CancellationException e = new CancellationException();
+        List<IApiCallback<T>> toNotify;
+        synchronized (this) {
+            if (done) {
+                return false;
+            }
+            // flag and completion are set atomically: a concurrent complete()
+            // either wins entirely or finds the future done
+            cancelled = true;
+            this.error = e;
+            toNotify = markDone();
+        }
+        for (IApiCallback<T> callback : toNotify) {
+            callback.onError(e);
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isDone() {
+        return done;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T get() throws InterruptedException, ExecutionException {
+        latch.await();
+        return getResult();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException,
+            TimeoutException {
+        if (!latch.await(timeout, unit)) {
+            throw new TimeoutException();
+        }
+        return getResult();
+    }
+
+    private T getResult() throws ExecutionException {
+        if (cancelled) {
+            throw new CancellationException();
+        }
+        if (error != null) {
+            throw new ExecutionException(error);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,115 @@
+package com.github.ddth.frontapi;
+
+/**
+ * Options of a registered API, see
+ * {@link IApiRegistry#register(String, String, IApi, ApiOptions)}.
+ *
+ * @author Thanh Ba Nguyen <btnguyen2k@gmail.com>
+ * @since 0.1.4
+ */
+public class ApiOptions {
+
+    public final static int UNLIMITED = 0;
+
+    private int maxConcurrency = UNLIMITED;
+    private long timeoutMillisecs = UNLIMITED;
+    private long cacheTtlMillisecs = 0;
+    private boolean idempotent = false;
+    private boolean rawJsonInput = false;
+
+    public ApiOptions() {
+    }
+
+    /**
+     * Max number of concurrent calls of the API, {@link #UNLIMITED} by
+     * default. Calls exceeding the limit are rejected immediately with
+     * {@link IApi#STATUS_SERVICE_UNAVAILABLE}.
+     *
+     * @return
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public ApiOptions setMaxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+        return this;
+    }
+
+    /**
+     * Max time (in milliseconds) a call of the API may take,
+     * {@link #UNLIMITED} by default. Calls exceeding it are answered with
+     * {@link IApi#STATUS_GATEWAY_TIMEOUT} and interrupted (async APIs: their
+     * futures are cancelled).
+     *
+     * @return
+     */
+    public long getTimeoutMillisecs() {
+        return timeoutMillisecs;
+    }
+
+    public ApiOptions setTimeoutMillisecs(long timeoutMillisecs) {
+        this.timeoutMillisecs = timeoutMillisecs;
+        return this;
+    }
+
+    /**
+     * How long (in milliseconds) successful results of the API are cached,
+     * {@code 0} (no caching) by default. Only enable it for APIs whose result
+     * depends on nothing but their input parameters: a cached result is
+     * returned to any call with the same (canonicalized) parameters, without
+     * calling the API.
+     *
+     * @return
+     */
+    public long getCacheTtlMillisecs() {
+        return cacheTtlMillisecs;
+    }
+
+    public ApiOptions setCacheTtlMillisecs(long cacheTtlMillisecs) {
+        this.cacheTtlMillisecs = cacheTtlMillisecs;
+        return this;
+    }
+
+    /**
+     * Is the API idempotent (calls with the same parameters, made at the same
+     * time, give the same result)? {@code false} by default. Identical
+     * concurrent calls of an idempotent API are coalesced: only one of them
+     * actually calls the API, the others wait for and share its result.
+     *
+     * @return
+     */
+    public boolean isIdempotent() {
+        return idempotent;
+    }
+
+    public ApiOptions setIdempotent(boolean idempotent) {
+        this.idempotent = idempotent;
+        return this;
+    }
+
+    /**
+     * Does the API take its input as raw Json? {@code false} by default. If
+     * {@code true}, Json input received by REST (POST) and Thrift (Json
+     * encodings) is not parsed but passed to the API as a {@link RawJson} (see
+     * {@link ApiParams#getRawJson()}); input of batch calls and of other
+     * encodings is parsed as usual.
+     *
+     * <p>
+     * Note: if the API's results are cached or its calls coalesced, the input
+     * is still parsed (once, then shared with the API) to build a canonical
+     * key, so that calls differing only in whitespace or key order match.
+     * </p>
+     *
+     * @return
+     */
+    public boolean isRawJsonInput() {
+        return rawJsonInput;
+    }
+
+    public ApiOptions setRawJsonInput(boolean rawJsonInput) {
+        this.rawJsonInput = rawJsonInput;
+        return this;
+    }
+
+}
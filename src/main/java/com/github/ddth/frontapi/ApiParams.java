@@ -13,7 +13,25 @@ public class ApiParams {
         this.params = params;
     }
 
+    /**
+     * API's input parameters; parameters passed as {@link RawJson} are parsed
+     * (on first call).
+     * 
+     * @return
+     */
     public Object getParams() {
-        return params;
+        return params instanceof RawJson ? ((RawJson) params).getValue() : params;
+    }
+
+    /**
+     * API's input parameters as Json data: as passed by the caller if they
+     * are a {@link RawJson} (see {@link ApiOptions#setRawJsonInput(boolean)}),
+     * serialized otherwise.
+     * 
+     * @return
+     * @since 0.1.4
+     */
+    public RawJson getRawJson() {
+        return RawJson.valueOf(params);
     }
 }
@@ -0,0 +1,35 @@
+package com.github.ddth.frontapi;
+
+/**
+ * Constants shared by FrontApi servers and clients.
+ *
+ * @author Thanh Ba Nguyen <btnguyen2k@gmail.com>
+ * @since 0.1.4
+ */
+public final class FrontApiConstants {
+
+    /**
+     * Module of FrontApi's own APIs.
+     */
+    public final static String MODULE_NAME = "frontapi";
+
+    /**
+     * API {@code frontapi/ping}: returns {@code "pong"}, e.g. to check
+     * connections.
+     */
+    public final static String API_PING = "ping";
+
+    /**
+     * REST: batch calls are POSTed to {@code <mapping>/<auth-key>/_batch}.
+     */
+    public final static String REST_BATCH_PATH = "_batch";
+
+    /**
+     * REST: request header carrying caller's timeout (in milliseconds) for the
+     * API call.
+     */
+    public final static String REST_HEADER_TIMEOUT = "X-Api-Timeout";
+
+    private FrontApiConstants() {
+    }
+}
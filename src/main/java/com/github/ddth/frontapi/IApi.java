@@ -11,9 +11,13 @@ public interface IApi {
     public final static String OPEN_AUTHKEY = "-";
 
     public final static int STATUS_OK = 200;
+    public final static int STATUS_BAD_REQUEST = 400;
     public final static int STATUS_FORBIDDEN = 403;
     public final static int STATUS_NOT_FOUND = 404;
+    public final static int STATUS_REQUEST_ENTITY_TOO_LARGE = 413;
     public final static int STATUS_SERVER_ERROR = 500;
+    public final static int STATUS_SERVICE_UNAVAILABLE = 503;
+    public final static int STATUS_GATEWAY_TIMEOUT = 504;
 
     /**
      * Calls the API.
@@ -0,0 +1,23 @@
+package com.github.ddth.frontapi;
+
+/**
+ * Callback to be notified when an {@link ApiFuture} completes.
+ *
+ * @author Thanh Ba Nguyen <btnguyen2k@gmail.com>
+ * @since 0.1.4
+ */
+public interface IApiCallback<T> {
+    /**
+     * Called when the future completes successfully.
+     *
+     * @param result
+     */
+    public void onComplete(T result);
+
+    /**
+     * Called when the future completes with an error.
+     *
+     * @param e
+     */
+    public void onError(Exception e);
+}
@@ -0,0 +1,102 @@
+package com.github.ddth.frontapi;
+
+/**
+ * A pre-resolved reference to a registered API, obtained via
+ * {@link IApiRegistry#resolve(String, String)}.
+ *
+ * <p>
+ * Resolve once, call many times: calls made through a handle skip the
+ * registry lookup. A handle becomes invalid when its module is unregistered
+ * or the API is re-registered; calls made through an invalid handle are
+ * looked up again (and answered with {@link IApi#STATUS_NOT_FOUND} if the API
+ * is gone).
+ * </p>
+ *
+ * @author Thanh Ba Nguyen <btnguyen2k@gmail.com>
+ * @since 0.1.4
+ */
+public interface IApiHandle {
+    /**
+     * Name of the module.
+     *
+     * @return
+     */
+    public String getModuleName();
+
+    /**
+     * Name of the API the handle points to, {@link IApiRegistry#WILDCARD_API}
+     * if resolved to the module's wildcard API.
+     *
+     * @return
+     */
+    public String getApiName();
+
+    /**
+     * Checks if the handle still points to the currently registered API.
+     *
+     * @return
+     */
+    public boolean isValid();
+
+    /**
+     * Does the API take its input as raw Json (see
+     * {@link ApiOptions#setRawJsonInput(boolean)})? Transports pass Json input
+     * of such APIs as {@link RawJson}, without parsing it.
+     *
+     * @return
+     * @since 0.1.4
+     */
+    public boolean isRawJsonInput();
+
+    /**
+     * Calls the API.
+     *
+     * @param authKey
+     *            authentication key to call API
+     * @param params
+     *            API's input parameters
+     * @return
+     * @see IApiRegistry#callApi(String, String, String, Object)
+     */
+    public ApiResult call(String authKey, Object params);
+
+    /**
+     * Calls the API with a deadline.
+     *
+     * @param authKey
+     *            authentication key to call API
+     * @param params
+     *            API's input parameters
+     * @param timeoutMillisecs
+     *            caller's timeout, {@code 0} for none
+     * @return
+     * @see IApiRegistry#callApi(String, String, String, Object, long)
+     */
+    public ApiResult call(String authKey, Object params, long timeoutMillisecs);
+
+    /**
+     * Calls the API asynchronously.
+     *
+     * @param authKey
+     *            authentication key to call API
+     * @param params
+     *            API's input parameters
+     * @return
+     * @see IApiRegistry#callApiAsync(String, String, String, Object)
+     */
+    public ApiFuture<ApiResult> callAsync(String authKey, Object params);
+
+    /**
+     * Calls the API asynchronously, with a deadline.
+     *
+     * @param authKey
+     *            authentication key to call API
+     * @param params
+     *            API's input parameters
+     * @param timeoutMillisecs
+     *            caller's timeout, {@code 0} for none
+     * @return
+     * @see IApiRegistry#callApiAsync(String, String, String, Object, long)
+     */
+    public ApiFuture<ApiResult> callAsync(String authKey, Object params, long timeoutMillisecs);
+}
@@ -1,5 +1,7 @@
 package com.github.ddth.frontapi;
 
+import java.util.List;
+
 /**
  * Bundle registers/unregisters its APIs via this interface.
  * 
@@ -10,6 +12,19 @@ public interface IApiRegistry {
 
     public final static String WILDCARD_API = "*";
 
+    /**
+     * Resolves an API to a handle that can be called many times without
+     * further lookups.
+     *
+     * @param moduleName
+     *            name of the module that provides API
+     * @param apiName
+     *            name of the API
+     * @return the handle, or {@code null} if no such API is registered
+     * @since 0.1.4
+     */
+    public IApiHandle resolve(String moduleName, String apiName);
+
     /**
      * Calls an API.
      * 
@@ -25,6 +40,101 @@ public interface IApiRegistry {
      */
     public ApiResult callApi(String moduleName, String apiName, String authKey, Object params);
 
+    /**
+     * Calls an API with a deadline.
+     * 
+     * @param moduleName
+     *            name of the module that provides API
+     * @param apiName
+     *            name of the API
+     * @param authKey
+     *            authentication key to call API
+     * @param params
+     *            API's input parameters
+     * @param timeoutMillisecs
+     *            caller's timeout, {@code 0} for none; the shorter of it and
+     *            the API's own timeout applies
+     * @return
+     * @since 0.1.4
+     */
+    public ApiResult callApi(String moduleName, String apiName, String authKey, Object params,
+            long timeoutMillisecs);
+
+    /**
+     * Calls an API asynchronously.
+     *
+     * <p>
+     * {@link IAsyncApi}s release the calling thread immediately; other APIs
+     * are executed in the calling thread and an already-completed future is
+     * returned. The returned future always completes with an
+     * {@link ApiResult}, never with an error.
+     * </p>
+     *
+     * @param moduleName
+     *            name of the module that provides API
+     * @param apiName
+     *            name of the API
+     * @param authKey
+     *            authentication key to call API
+     * @param params
+     *            API's input parameters
+     * @return
+     * @since 0.1.4
+     */
+    public ApiFuture<ApiResult> callApiAsync(String moduleName, String apiName, String authKey,
+            Object params);
+
+    /**
+     * Calls an API asynchronously, with a deadline.
+     * 
+     * @param moduleName
+     *            name of the module that provides API
+     * @param apiName
+     *            name of the API
+     * @param authKey
+     *            authentication key to call API
+     * @param params
+     *            API's input parameters
+     * @param timeoutMillisecs
+     *            caller's timeout, {@code 0} for none; the shorter of it and
+     *            the API's own timeout applies
+     * @return
+     * @since 0.1.4
+     */
+    public ApiFuture<ApiResult> callApiAsync(String moduleName, String apiName, String authKey,
+            Object params, long timeoutMillisecs);
+
+    /**
+     * Calls a batch of APIs in parallel.
+     * 
+     * @param authKey
+     *            authentication key to call APIs
+     * @param calls
+     *            APIs to call
+     * @return results of the calls, in the same order as {@code calls}
+     * @since 0.1.4
+     */
+    public List<ApiResult> callApis(String authKey, List<ApiCall> calls);
+
+    /**
+     * Calls a batch of APIs in parallel, asynchronously.
+     * 
+     * <p>
+     * The returned future completes once all calls have completed (or the
+     * batch has timed out, if the registry limits batches' duration), always
+     * with a list of {@link ApiResult}s (in the same order as {@code calls}),
+     * never with an error.
+     * </p>
+     * 
+     * @param authKey
+     *            authentication key to call APIs
+     * @param calls
+     *            APIs to call
+     * @return
+     * @since 0.1.4
+     */
+    public ApiFuture<List<ApiResult>> callApisAsync(String authKey, List<ApiCall> calls);
+
     /**
      * Bundle calls this method to register its APIs
      * 
@@ -34,6 +144,18 @@ public interface IApiRegistry {
      */
     public void register(String moduleName, String apiName, IApi api);
 
+    /**
+     * Bundle calls this method to register its APIs, with options.
+     * 
+     * @param moduleName
+     * @param apiName
+     * @param api
+     * @param options
+     *            {@code null} for default options
+     * @since 0.1.4
+     */
+    public void register(String moduleName, String apiName, IApi api, ApiOptions options);
+
     /**
      * Bundle calls this method to unregister all its APIs.
      * 
@@ -0,0 +1,25 @@
+package com.github.ddth.frontapi;
+
+/**
+ * Represents an API that completes asynchronously.
+ *
+ * <p>
+ * The registry calls {@link #callAsync(ApiParams)} and releases the calling
+ * thread (e.g. Thrift worker) immediately; the result is delivered when the
+ * returned {@link ApiFuture} completes.
+ * </p>
+ *
+ * @author Thanh Ba Nguyen <btnguyen2k@gmail.com>
+ * @since 0.1.4
+ * @see AbstractAsyncApi
+ */
+public interface IAsyncApi extends IApi {
+    /**
+     * Calls the API asynchronously.
+     *
+     * @param params
+     * @return
+     * @throws Exception
+     */
+    public ApiFuture<Object> callAsync(ApiParams params) throws Exception;
+}
@@ -0,0 +1,129 @@
+package com.github.ddth.frontapi;
+
+import java.nio.charset.Charset;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.github.ddth.frontapi.internal.JsonUtils;
+import com.github.ddth.frontapi.internal.RawJsonSerializer;
+
+/**
+ * Json data kept in its serialized form (UTF-8 encoded bytes or string), for
+ * APIs that just pass Json through.
+ *
+ * <ul>
+ * <li>As API's input: APIs registered with
+ * {@link ApiOptions#setRawJsonInput(boolean)} receive the caller's Json as-is,
+ * see {@link ApiParams#getRawJson()}; it is parsed only if the API asks for
+ * it ({@link #getValue()}).</li>
+ * <li>As API's output: a {@code RawJson} returned by an API is written
+ * verbatim by REST and Thrift (Json encodings), without being parsed and
+ * serialized again.</li>
+ * </ul>
+ *
+ * <p>
+ * The data is not validated: it must be a valid Json value.
+ * </p>
+ *
+ * @author Thanh Ba Nguyen <btnguyen2k@gmail.com>
+ * @since 0.1.4
+ */
+@JsonSerialize(using = RawJsonSerializer.class)
+public class RawJson {
+
+    private final static Charset UTF8 = Charset.forName("UTF-8");
+
+    private volatile byte[] bytes;
+    private volatile String string;
+    private volatile Object value;
+    private volatile boolean parsed;
+
+    /**
+     * @param json
+     *            UTF-8 encoded Json data
+     */
+    public RawJson(byte[] json) {
+        if (json == null) {
+            throw new NullPointerException("Json data is null!");
+        }
+        this.bytes = json;
+    }
+
+    /**
+     * @param json
+     *            Json string
+     */
+    public RawJson(String json) {
+        if (json == null) {
+            throw new NullPointerException("Json string is null!");
+        }
+        this.string = json;
+    }
+
+    /**
+     * Converts an object to {@code RawJson}: a {@code RawJson} is returned
+     * as-is, other objects are serialized.
+     *
+     * @param obj
+     * @return {@code null} if {@code obj} is {@code null}
+     */
+    public static RawJson valueOf(Object obj) {
+        if (obj == null || obj instanceof RawJson) {
+            return (RawJson) obj;
+        }
+        return new RawJson(JsonUtils.toJsonBytes(obj));
+    }
+
+    /**
+     * The Json data, UTF-8 encoded (must not be modified).
+     *
+     * @return
+     */
+    public byte[] toJsonBytes() {
+        byte[] result = bytes;
+        if (result == null) {
+            result = string.getBytes(UTF8);
+            bytes = result;
+        }
+        return result;
+    }
+
+    /**
+     * The Json data, as string.
+     *
+     * @return
+     */
+    public String toJsonString() {
+        String result = string;
+        if (result == null) {
+            result = new String(bytes, UTF8);
+            string = result;
+        }
+        return result;
+    }
+
+    /**
+     * The Json data, parsed (on first call) to Java object ({@code Map},
+     * {@code List}, {@code String}, {@code Number}...).
+     *
+     * @return
+     * @throws RuntimeException
+     *             if the data is not valid Json
+     */
+    public Object getValue() {
+        if (!parsed) {
+            byte[] data = bytes;
+            value = data != null ? JsonUtils.fromJsonBytes(data) : JsonUtils
+                    .fromJsonString(string);
+            parsed = true;
+        }
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return toJsonString();
+    }
+}
@@ -0,0 +1,515 @@
+package com.github.ddth.frontapi.client;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.thrift.TException;
+import org.apache.thrift.async.AsyncMethodCallback;
+import org.apache.thrift.async.TAsyncClientManager;
+import org.apache.thrift.protocol.TProtocolFactory;
+import org.apache.thrift.transport.TNonblockingSocket;
+import org.apache.thrift.transport.TNonblockingTransport;
+import org.apache.thrift.transport.TTransportException;
+
+import com.github.ddth.frontapi.ApiCall;
+import com.github.ddth.frontapi.ApiFuture;
+import com.github.ddth.frontapi.ApiResult;
+import com.github.ddth.frontapi.client.ThriftApiClient.DataEncoding;
+import com.github.ddth.frontapi.internal.JsonUtils;
+import com.github.ddth.frontapi.internal.thrift.TApi;
+import com.github.ddth.frontapi.internal.thrift.TApiCall;
+import com.github.ddth.frontapi.internal.thrift.TDataEncoding;
+import com.github.ddth.frontapi.internal.thrift.ThriftUtils;
+
+/**
+ * {@link IApiClient}: non-blocking Thrift implementation, built on
+ * {@link TAsyncClientManager} and {@link TApi.AsyncClient}.
+ *
+ * <p>
+ * All connections are driven by a single selector thread. A Thrift async
+ * client carries one call at a time, so this client keeps up to
+ * {@link #getMaxConnections()} connections and queues calls until a
+ * connection is free; calling threads never block (except for the
+ * synchronous {@code call} methods). This client is thread-safe.
+ * </p>
+ *
+ * <p>
+ * Callbacks registered on returned futures are invoked in the selector thread
+ * and should not block.
+ * </p>
+ *
+ * @author Thanh Ba Nguyen <btnguyen2k@gmail.com>
+ * @since 0.1.4
+ */
+public class AsyncThriftApiClient implements IAsyncApiClient {
+
+	public final static int DEFAULT_MAX_CONNECTIONS = 16;
+	public final static int DEFAULT_CONNECT_TIMEOUT = 5000;
+	public final static long DEFAULT_TIMEOUT = 10000;
+
+	private String host;
+	private int port;
+	private DataEncoding dataEncoding = DataEncoding.JSON_STRING;
+	private String protocol = ThriftUtils.PROTOCOL_BINARY;
+	private int maxConnections = DEFAULT_MAX_CONNECTIONS;
+	private int connectTimeoutMillisecs = DEFAULT_CONNECT_TIMEOUT;
+	private long timeoutMillisecs = DEFAULT_TIMEOUT;
+
+	private TAsyncClientManager clientManager;
+	private TProtocolFactory protocolFactory;
+	private volatile boolean destroyed = false;
+	private final AtomicInteger numConnections = new AtomicInteger();
+	private final Queue<Connection> idleConnections = new ConcurrentLinkedQueue<Connection>();
+	private final Queue<Task<?, ?>> pendingTasks = new ConcurrentLinkedQueue<Task<?, ?>>();
+	private final Set<Task<?, ?>> runningTasks = Collections
+			.newSetFromMap(new ConcurrentHashMap<Task<?, ?>, Boolean>());
+
+	public AsyncThriftApiClient() {
+	}
+
+	public AsyncThriftApiClient(String host, int port) {
+		setHost(host);
+		setPort(port);
+	}
+
+	public String getHost() {
+		return host;
+	}
+
+	public AsyncThriftApiClient setHost(String host) {
+		this.host = host;
+		return this;
+	}
+
+	public int getPort() {
+		return port;
+	}
+
+	public AsyncThriftApiClient setPort(int port) {
+		this.port = port;
+		return this;
+	}
+
+	public DataEncoding getDataEncoding() {
+		return dataEncoding;
+	}
+
+	public AsyncThriftApiClient setDataEncoding(DataEncoding dataEncoding) {
+		this.dataEncoding = dataEncoding;
+		return this;
+	}
+
+	public String getProtocol() {
+		return protocol;
+	}
+
+	/**
+	 * Sets the Thrift protocol ({@code binary} or {@code compact}), must be
+	 * the same as server's {@code frontapi.thrift.protocol}.
+	 *
+	 * @param protocol
+	 * @return
+	 */
+	public AsyncThriftApiClient setProtocol(String protocol) {
+		this.protocol = protocol;
+		return this;
+	}
+
+	/**
+	 * Max number of concurrent connections, i.e. max number of calls in
+	 * flight; further calls are queued.
+	 *
+	 * @return
+	 */
+	public int getMaxConnections() {
+		return maxConnections;
+	}
+
+	public AsyncThriftApiClient setMaxConnections(int maxConnections) {
+		this.maxConnections = maxConnections;
+		return this;
+	}
+
+	public int getConnectTimeoutMillisecs() {
+		return connectTimeoutMillisecs;
+	}
+
+	public AsyncThriftApiClient setConnectTimeoutMillisecs(
+			int connectTimeoutMillisecs) {
+		this.connectTimeoutMillisecs = connectTimeoutMillisecs;
+		return this;
+	}
+
+	/**
+	 * Max time a call may take once sent (enforced by the selector thread),
+	 * also max time synchronous calls wait for their responses; {@code 0} for
+	 * no limit.
+	 *
+	 * @return
+	 */
+	public long getTimeoutMillisecs() {
+		return timeoutMillisecs;
+	}
+
+	public AsyncThriftApiClient setTimeoutMillisecs(long timeoutMillisecs) {
+		this.timeoutMillisecs = timeoutMillisecs;
+		return this;
+	}
+
+	/**
+	 * Number of open connections.
+	 *
+	 * @return
+	 */
+	public int getNumConnections() {
+		return numConnections.get();
+	}
+
+	/**
+	 * Number of calls waiting for a free connection.
+	 *
+	 * @return
+	 */
+	public int getNumPendingCalls() {
+		return pendingTasks.size();
+	}
+
+	/**
+	 * Initializes the client, starts the selector thread.
+	 *
+	 * @throws Exception
+	 */
+	public void init() throws Exception {
+		protocolFactory = ThriftUtils.createProtocolFactory(protocol);
+		clientManager = new TAsyncClientManager();
+	}
+
+	/**
+	 * Destroys the client, pending and in-flight calls fail.
+	 */
+	public void destroy() {
+		destroyed = true;
+		if (clientManager != null) {
+			clientManager.stop();
+			clientManager = null;
+		}
+		Connection conn;
+		while ((conn = idleConnections.poll()) != null) {
+			conn.close();
+		}
+		TTransportException e = new TTransportException(
+				TTransportException.NOT_OPEN, "Client destroyed!");
+		Task<?, ?> task;
+		while ((task = pendingTasks.poll()) != null) {
+			task.future.fail(e);
+		}
+		List<Task<?, ?>> running = new ArrayList<Task<?, ?>>(runningTasks);
+		runningTasks.clear();
+		for (Task<?, ?> t : running) {
+			t.future.fail(e);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ApiResult call(String authKey, String moduleName, String apiName,
+			Object apiInput) throws Exception {
+		return waitFor(callAsync(authKey, moduleName, apiName, apiInput, 0));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ApiResult call(String authKey, String moduleName, String apiName,
+			Object apiInput, long timeoutMillisecs) throws Exception {
+		return waitFor(callAsync(authKey, moduleName, apiName, apiInput,
+				timeoutMillisecs));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<ApiResult> callApis(String authKey, List<ApiCall> calls)
+			throws Exception {
+		return waitFor(callApisAsync(authKey, calls));
+	}
+
+	private <T> T waitFor(ApiFuture<T> future) throws Exception {
+		try {
+			return timeoutMillisecs > 0 ? future.get(timeoutMillisecs,
+					TimeUnit.MILLISECONDS) : future.get();
+		} catch (TimeoutException e) {
+			// the caller gives up: a call still queued is dropped instead of
+			// taking a connection
+			future.cancel(false);
+			throw e;
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			throw cause instanceof Exception ? (Exception) cause : e;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ApiFuture<ApiResult> callAsync(String authKey, String moduleName,
+			String apiName, Object apiInput) {
+		return callAsync(authKey, moduleName, apiName, apiInput, 0);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ApiFuture<ApiResult> callAsync(final String authKey,
+			final String moduleName, final String apiName, Object apiInput,
+			final long timeoutMillisecs) {
+		final TDataEncoding encoding = ThriftApiClient
+				.toTDataEncoding(dataEncoding);
+		if (encoding == null) {
+			final String jsonInput = JsonUtils.toJsonString(apiInput);
+			return submit(new Task<TApi.AsyncClient.callApi_call, ApiResult>() {
+				@Override
+				protected void send(TApi.AsyncClient client,
+						AsyncMethodCallback<TApi.AsyncClient.callApi_call> callback)
+						throws TException {
+					client.callApi(authKey, moduleName, apiName, jsonInput,
+							timeoutMillisecs, callback);
+				}
+
+				@Override
+				protected ApiResult toResult(TApi.AsyncClient.callApi_call call)
+						throws Exception {
+					return ThriftApiClient.toApiResult(call.getResult());
+				}
+			});
+		}
+
+		final ByteBuffer input;
+		try {
+			input = ThriftUtils.encode(encoding, apiInput);
+		} catch (RuntimeException e) {
+			ApiFuture<ApiResult> future = new ApiFuture<ApiResult>();
+			future.fail(e);
+			return future;
+		}
+		return submit(new Task<TApi.AsyncClient.callApiBinary_call, ApiResult>() {
+			@Override
+			protected void send(TApi.AsyncClient client,
+					AsyncMethodCallback<TApi.AsyncClient.callApiBinary_call> callback)
+					throws TException {
+				client.callApiBinary(authKey, moduleName, apiName, encoding,
+						input.duplicate(), timeoutMillisecs, callback);
+			}
+
+			@Override
+			protected ApiResult toResult(
+					TApi.AsyncClient.callApiBinary_call call) throws Exception {
+				return ThriftApiClient.toApiResult(encoding, call.getResult());
+			}
+		});
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ApiFuture<List<ApiResult>> callApisAsync(final String authKey,
+			List<ApiCall> calls) {
+		final List<TApiCall> tcalls;
+		try {
+			tcalls = ThriftApiClient.toTApiCalls(calls);
+		} catch (RuntimeException e) {
+			ApiFuture<List<ApiResult>> future = new ApiFuture<List<ApiResult>>();
+			future.fail(e);
+			return future;
+		}
+		return submit(new Task<TApi.AsyncClient.callApis_call, List<ApiResult>>() {
+			@Override
+			protected void send(TApi.AsyncClient client,
+					AsyncMethodCallback<TApi.AsyncClient.callApis_call> callback)
+					throws TException {
+				client.callApis(authKey, tcalls, callback);
+			}
+
+			@Override
+			protected List<ApiResult> toResult(
+					TApi.AsyncClient.callApis_call call) throws Exception {
+				return ThriftApiClient.toApiResults(call.getResult());
+			}
+		});
+	}
+
+	/*----------------------------------------------------------------------*/
+
+	private <T> ApiFuture<T> submit(Task<?, T> task) {
+		if (destroyed || clientManager == null) {
+			task.future.fail(new TTransportException(
+					TTransportException.NOT_OPEN, "Client is not initialized!"));
+			return task.future;
+		}
+		pendingTasks.offer(task);
+		dispatch();
+		return task.future;
+	}
+
+	/**
+	 * Hands pending calls to free connections, opening new connections if
+	 * allowed. Called by submitting threads and by the selector thread when a
+	 * connection is released.
+	 */
+	private void dispatch() {
+		while (!destroyed && !pendingTasks.isEmpty()) {
+			Connection conn = idleConnections.poll();
+			if (conn == null) {
+				conn = openConnection();
+				if (conn == null) {
+					// all connections busy: a released connection will pick
+					// up the pending calls
+					return;
+				}
+			}
+			Task<?, ?> task = pendingTasks.poll();
+			if (task == null || task.future.isDone()) {
+				// another thread took the call, or the call has been
+				// cancelled: re-check after releasing
+				idleConnections.offer(conn);
+				continue;
+			}
+			task.start(conn);
+		}
+	}
+
+	/**
+	 * Opens a new connection if the limit has not been reached.
+	 *
+	 * @return {@code null} if the limit has been reached
+	 */
+	private Connection openConnection() {
+		while (true) {
+			int n = numConnections.get();
+			if (n >= maxConnections) {
+				return null;
+			}
+			if (numConnections.compareAndSet(n, n + 1)) {
+				break;
+			}
+		}
+		try {
+			// connection is established asynchronously by the selector thread
+			// when the first call is made
+			TNonblockingTransport transport = new TNonblockingSocket(host,
+					port, connectTimeoutMillisecs);
+			TApi.AsyncClient client = new TApi.AsyncClient(protocolFactory,
+					clientManager, transport);
+			client.setTimeout(timeoutMillisecs);
+			return new Connection(transport, client);
+		} catch (IOException e) {
+			numConnections.decrementAndGet();
+			Task<?, ?> task = pendingTasks.poll();
+			if (task != null) {
+				task.future.fail(e);
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * Returns a connection after a call has finished, a connection in error
+	 * state is closed.
+	 *
+	 * @param conn
+	 * @param broken
+	 */
+	private void release(Connection conn, boolean broken) {
+		if (broken || destroyed || conn.client.hasError()) {
+			conn.close();
+			numConnections.decrementAndGet();
+		} else {
+			idleConnections.offer(conn);
+		}
+		dispatch();
+	}
+
+	/**
+	 * A connection: non-blocking transport and its Thrift async client.
+	 */
+	private static class Connection {
+		final TNonblockingTransport transport;
+		final TApi.AsyncClient client;
+
+		Connection(TNonblockingTransport transport, TApi.AsyncClient client) {
+			this.transport = transport;
+			this.client = client;
+		}
+
+		void close() {
+			transport.close();
+		}
+	}
+
+	/**
+	 * A call: sends the request and converts the response.
+	 *
+	 * @param <C>
+	 *            Thrift async method call type
+	 * @param <T>
+	 *            result type
+	 */
+	private abstract class Task<C, T> {
+		final ApiFuture<T> future = new ApiFuture<T>();
+
+		protected abstract void send(TApi.AsyncClient client,
+				AsyncMethodCallback<C> callback) throws TException;
+
+		protected abstract T toResult(C call) throws Exception;
+
+		void start(final Connection conn) {
+			runningTasks.add(this);
+			try {
+				send(conn.client, new AsyncMethodCallback<C>() {
+					@Override
+					public void onComplete(C call) {
+						runningTasks.remove(Task.this);
+						release(conn, false);
+						T value;
+						try {
+							value = toResult(call);
+						} catch (Exception e) {
+							future.fail(e);
+							return;
+						}
+						future.complete(value);
+					}
+
+					@Override
+					public void onError(Exception e) {
+						runningTasks.remove(Task.this);
+						release(conn, true);
+						future.fail(e);
+					}
+				});
+			} catch (Exception e) {
+				runningTasks.remove(this);
+				future.fail(e);
+				release(conn, true);
+			}
+		}
+	}
+}
@@ -7,6 +7,7 @@ import com.github.ddth.frontapi.ApiResult;
  * 
  * @author Thanh Ba Nguyen <btnguyen2k@gmail.com>
  * @since 0.1.0
+ * @see IExtendedApiClient
  */
 public interface IApiClient {
     /**
@@ -0,0 +1,56 @@
+package com.github.ddth.frontapi.client;
+
+import java.util.List;
+
+import com.github.ddth.frontapi.ApiCall;
+import com.github.ddth.frontapi.ApiFuture;
+import com.github.ddth.frontapi.ApiResult;
+
+/**
+ * Represents an API client that makes calls asynchronously.
+ * 
+ * <p>
+ * Returned futures complete with an {@link ApiResult} when the server
+ * answers, or with an error if the call could not be made (e.g. connection
+ * failure).
+ * </p>
+ * 
+ * @author Thanh Ba Nguyen <btnguyen2k@gmail.com>
+ * @since 0.1.4
+ */
+public interface IAsyncApiClient extends IExtendedApiClient {
+    /**
+     * Makes the API call asynchronously.
+     * 
+     * @param authKey
+     * @param moduleName
+     * @param apiName
+     * @param apiInput
+     * @return
+     */
+    public ApiFuture<ApiResult> callAsync(String authKey, String moduleName, String apiName,
+            Object apiInput);
+
+    /**
+     * Makes the API call asynchronously, with a deadline.
+     * 
+     * @param authKey
+     * @param moduleName
+     * @param apiName
+     * @param apiInput
+     * @param timeoutMillisecs
+     *            {@code 0} for none (API's own timeout still applies)
+     * @return
+     */
+    public ApiFuture<ApiResult> callAsync(String authKey, String moduleName, String apiName,
+            Object apiInput, long timeoutMillisecs);
+
+    /**
+     * Makes a batch of API calls asynchronously.
+     * 
+     * @param authKey
+     * @param calls
+     * @return
+     */
+    public ApiFuture<List<ApiResult>> callApisAsync(String authKey, List<ApiCall> calls);
+}
@@ -0,0 +1,48 @@
+package com.github.ddth.frontapi.client;
+
+import java.util.List;
+
+import com.github.ddth.frontapi.ApiCall;
+import com.github.ddth.frontapi.ApiResult;
+
+/**
+ * Represents an API client that also supports caller deadlines and batch
+ * calls.
+ * 
+ * <p>
+ * Kept apart from {@link IApiClient} so that existing implementations of
+ * {@link IApiClient} still compile. All clients shipped with FrontApi
+ * implement this interface.
+ * </p>
+ * 
+ * @author Thanh Ba Nguyen <btnguyen2k@gmail.com>
+ * @since 0.1.4
+ */
+public interface IExtendedApiClient extends IApiClient {
+    /**
+     * Makes the API call with a deadline: the server answers with status 504
+     * if the API does not complete in time.
+     * 
+     * @param authKey
+     * @param moduleName
+     * @param apiName
+     * @param apiInput
+     * @param timeoutMillisecs
+     *            {@code 0} for none (API's own timeout still applies)
+     * @return
+     * @throws Exception
+     */
+    public ApiResult call(String authKey, String moduleName, String apiName, Object apiInput,
+            long timeoutMillisecs) throws Exception;
+
+    /**
+     * Makes a batch of API calls in one round trip; the server executes them
+     * in parallel.
+     * 
+     * @param authKey
+     * @param calls
+     * @return results of the calls, in the same order as {@code calls}
+     * @throws Exception
+     */
+    public List<ApiResult> callApis(String authKey, List<ApiCall> calls) throws Exception;
+}
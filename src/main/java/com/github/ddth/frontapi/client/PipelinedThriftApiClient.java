@@ -0,0 +1,582 @@
+package com.github.ddth.frontapi.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.thrift.TApplicationException;
+import org.apache.thrift.TBase;
+import org.apache.thrift.TException;
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TMessageType;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolFactory;
+import org.apache.thrift.protocol.TProtocolUtil;
+import org.apache.thrift.protocol.TType;
+import org.apache.thrift.transport.TFramedTransport;
+import org.apache.thrift.transport.TSocket;
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.ddth.frontapi.ApiCall;
+import com.github.ddth.frontapi.ApiFuture;
+import com.github.ddth.frontapi.ApiResult;
+import com.github.ddth.frontapi.client.ThriftApiClient.DataEncoding;
+import com.github.ddth.frontapi.internal.JsonUtils;
+import com.github.ddth.frontapi.internal.thrift.TApi;
+import com.github.ddth.frontapi.internal.thrift.TApiResult;
+import com.github.ddth.frontapi.internal.thrift.TDataEncoding;
+import com.github.ddth.frontapi.internal.thrift.ThriftUtils;
+
+/**
+ * {@link IApiClient}: Thrift implementation that pipelines calls over a single
+ * connection.
+ *
+ * <p>
+ * Requests from many threads are written to the same connection without
+ * waiting for previous responses; a reader thread matches responses to
+ * pending calls by their sequence ids. This client is thread-safe, there is no
+ * need for a connection per thread.
+ * </p>
+ *
+ * <p>
+ * Callbacks registered on returned futures are invoked in the reader thread
+ * and should not block.
+ * </p>
+ *
+ * <p>
+ * Responses arrive in order on the single connection, so a call that gets no
+ * response in time (hung server, half-open connection) holds up all calls
+ * after it: once a call (sync or async) has waited longer than
+ * {@link #getTimeoutMillisecs()}, the connection is closed, all its pending
+ * calls fail with a {@link TTransportException} ({@code TIMED_OUT}) and the
+ * next call reconnects.
+ * </p>
+ *
+ * <p>
+ * A call made with its own (server-side) timeout longer than
+ * {@link #getTimeoutMillisecs()} waits for that timeout plus
+ * {@link #CALL_TIMEOUT_SLACK} instead, leaving the server time to answer it
+ * (with status 504 at worst).
+ * </p>
+ *
+ * @author Thanh Ba Nguyen <btnguyen2k@gmail.com>
+ * @since 0.1.4
+ */
+public class PipelinedThriftApiClient implements IAsyncApiClient {
+
+	public final static int DEFAULT_CONNECT_TIMEOUT = 5000;
+	public final static long DEFAULT_TIMEOUT = 10000;
+
+	/**
+	 * Extra time (ms) a call with its own timeout waits for the server's
+	 * response, beyond that timeout.
+	 */
+	public final static long CALL_TIMEOUT_SLACK = 1000;
+
+	private final Logger LOGGER = LoggerFactory
+			.getLogger(PipelinedThriftApiClient.class);
+
+	private String host;
+	private int port;
+	private DataEncoding dataEncoding = DataEncoding.JSON_STRING;
+	private String protocol = ThriftUtils.PROTOCOL_BINARY;
+	private int connectTimeoutMillisecs = DEFAULT_CONNECT_TIMEOUT;
+	private long timeoutMillisecs = DEFAULT_TIMEOUT;
+	private volatile Connection connection;
+	private ScheduledExecutorService timer;
+	private int _counter = 0;
+
+	public PipelinedThriftApiClient() {
+	}
+
+	public PipelinedThriftApiClient(String host, int port) {
+		setHost(host);
+		setPort(port);
+	}
+
+	public String getHost() {
+		return host;
+	}
+
+	public PipelinedThriftApiClient setHost(String host) {
+		this.host = host;
+		return this;
+	}
+
+	public int getPort() {
+		return port;
+	}
+
+	public PipelinedThriftApiClient setPort(int port) {
+		this.port = port;
+		return this;
+	}
+
+	public DataEncoding getDataEncoding() {
+		return dataEncoding;
+	}
+
+	public PipelinedThriftApiClient setDataEncoding(DataEncoding dataEncoding) {
+		this.dataEncoding = dataEncoding;
+		return this;
+	}
+
+	public String getProtocol() {
+		return protocol;
+	}
+
+	/**
+	 * Sets the Thrift protocol ({@code binary} or {@code compact}), must be
+	 * the same as server's {@code frontapi.thrift.protocol}.
+	 *
+	 * @param protocol
+	 * @return
+	 */
+	public PipelinedThriftApiClient setProtocol(String protocol) {
+		this.protocol = protocol;
+		return this;
+	}
+
+	public int getConnectTimeoutMillisecs() {
+		return connectTimeoutMillisecs;
+	}
+
+	public PipelinedThriftApiClient setConnectTimeoutMillisecs(
+			int connectTimeoutMillisecs) {
+		this.connectTimeoutMillisecs = connectTimeoutMillisecs;
+		return this;
+	}
+
+	/**
+	 * Max time calls wait for their responses, {@code 0} for no limit. Calls
+	 * waiting longer get the connection closed (see class doc).
+	 *
+	 * @return
+	 */
+	public long getTimeoutMillisecs() {
+		return timeoutMillisecs;
+	}
+
+	public PipelinedThriftApiClient setTimeoutMillisecs(long timeoutMillisecs) {
+		this.timeoutMillisecs = timeoutMillisecs;
+		return this;
+	}
+
+	/**
+	 * Initializes the client.
+	 *
+	 * @throws Exception
+	 */
+	public void init() throws Exception {
+		getConnection();
+	}
+
+	/**
+	 * Destroys the client, pending calls fail.
+	 */
+	synchronized public void destroy() {
+		if (timer != null) {
+			timer.shutdownNow();
+			timer = null;
+		}
+		if (connection != null) {
+			connection.close(new TTransportException(
+					TTransportException.NOT_OPEN, "Client destroyed!"));
+			connection = null;
+		}
+	}
+
+	/**
+	 * Starts the timer that closes the connection when calls time out.
+	 */
+	private void startTimer() {
+		long interval = Math.max(10, Math.min(1000, timeoutMillisecs / 10));
+		timer = Executors
+				.newSingleThreadScheduledExecutor(new ThreadFactory() {
+					@Override
+					public Thread newThread(Runnable r) {
+						Thread t = new Thread(r,
+								"FrontApi Pipelined Thrift Client Timer");
+						t.setDaemon(true);
+						return t;
+					}
+				});
+		timer.scheduleWithFixedDelay(new Runnable() {
+			@Override
+			public void run() {
+				sweep();
+			}
+		}, interval, interval, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Closes the current connection if a call on it has waited longer than
+	 * its wait timeout.
+	 */
+	private void sweep() {
+		Connection conn = connection;
+		PendingCall<?, ?> call = conn != null ? conn.overdueCall() : null;
+		if (call != null) {
+			LOGGER.warn("No response from [" + host + ":" + port + "] in "
+					+ call.waitMillisecs + "ms, closing connection.");
+			conn.close(new TTransportException(TTransportException.TIMED_OUT,
+					"No response in " + call.waitMillisecs + "ms!"));
+		}
+	}
+
+	/**
+	 * Max time a call waits for its response.
+	 *
+	 * @param callTimeoutMillisecs
+	 *            call's own timeout, {@code 0} for none
+	 * @return {@code 0} for no limit
+	 */
+	private long waitMillisecs(long callTimeoutMillisecs) {
+		if (timeoutMillisecs <= 0) {
+			return 0;
+		}
+		long callWaitMillisecs = callTimeoutMillisecs > 0 ? callTimeoutMillisecs
+				+ CALL_TIMEOUT_SLACK : 0;
+		return Math.max(timeoutMillisecs, callWaitMillisecs);
+	}
+
+	/**
+	 * Gets the current connection, reconnects if it has been closed.
+	 *
+	 * @return
+	 * @throws TTransportException
+	 */
+	synchronized private Connection getConnection() throws TTransportException {
+		if (connection == null || connection.closed) {
+			TSocket socket = new TSocket(host, port, connectTimeoutMillisecs);
+			TTransport transport = new TFramedTransport(socket);
+			transport.open();
+			// the reader thread waits for responses indefinitely, timed out
+			// calls are detected by the timer
+			socket.setTimeout(0);
+			if (timer == null && timeoutMillisecs > 0) {
+				startTimer();
+			}
+			_counter++;
+			connection = new Connection(transport,
+					ThriftUtils.createProtocolFactory(protocol),
+					"FrontApi Pipelined Thrift Client #" + _counter);
+			connection.start();
+		}
+		return connection;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ApiResult call(String authKey, String moduleName, String apiName,
+			Object apiInput) throws Exception {
+		return waitFor(callAsync(authKey, moduleName, apiName, apiInput, 0),
+				waitMillisecs(0));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ApiResult call(String authKey, String moduleName, String apiName,
+			Object apiInput, long timeoutMillisecs) throws Exception {
+		return waitFor(callAsync(authKey, moduleName, apiName, apiInput,
+				timeoutMillisecs), waitMillisecs(timeoutMillisecs));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<ApiResult> callApis(String authKey, List<ApiCall> calls)
+			throws Exception {
+		return waitFor(callApisAsync(authKey, calls), waitMillisecs(0));
+	}
+
+	private <T> T waitFor(ApiFuture<T> future, long waitMillisecs)
+			throws Exception {
+		try {
+			return waitMillisecs > 0 ? future.get(waitMillisecs,
+					TimeUnit.MILLISECONDS) : future.get();
+		} catch (TimeoutException e) {
+			// don't wait for the timer: unblock calls queued behind this one
+			sweep();
+			throw e;
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			throw cause instanceof Exception ? (Exception) cause : e;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ApiFuture<ApiResult> callAsync(String authKey, String moduleName,
+			String apiName, Object apiInput) {
+		return callAsync(authKey, moduleName, apiName, apiInput, 0);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ApiFuture<ApiResult> callAsync(String authKey, String moduleName,
+			String apiName, Object apiInput, long timeoutMillisecs) {
+		final TDataEncoding encoding = ThriftApiClient
+				.toTDataEncoding(dataEncoding);
+		if (encoding == null) {
+			TApi.callApi_args args = new TApi.callApi_args(authKey,
+					moduleName, apiName, JsonUtils.toJsonString(apiInput),
+					timeoutMillisecs);
+			return send("callApi", args,
+					new PendingCall<TApi.callApi_result, ApiResult>(
+							new TApi.callApi_result(),
+							waitMillisecs(timeoutMillisecs)) {
+						@Override
+						protected ApiResult toResult(
+								TApi.callApi_result result) throws Exception {
+							if (!result.isSetSuccess()) {
+								throw missingResult("callApi");
+							}
+							return ThriftApiClient.toApiResult(result.success);
+						}
+					});
+		}
+
+		TApi.callApiBinary_args args = new TApi.callApiBinary_args(authKey,
+				moduleName, apiName, encoding, ThriftUtils.encode(encoding,
+						apiInput), timeoutMillisecs);
+		return send("callApiBinary", args,
+				new PendingCall<TApi.callApiBinary_result, ApiResult>(
+						new TApi.callApiBinary_result(),
+						waitMillisecs(timeoutMillisecs)) {
+					@Override
+					protected ApiResult toResult(
+							TApi.callApiBinary_result result) throws Exception {
+						if (!result.isSetSuccess()) {
+							throw missingResult("callApiBinary");
+						}
+						return ThriftApiClient.toApiResult(encoding,
+								result.success);
+					}
+				});
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ApiFuture<List<ApiResult>> callApisAsync(String authKey,
+			List<ApiCall> calls) {
+		TApi.callApis_args args;
+		try {
+			args = new TApi.callApis_args(authKey,
+					ThriftApiClient.toTApiCalls(calls));
+		} catch (RuntimeException e) {
+			ApiFuture<List<ApiResult>> future = new ApiFuture<List<ApiResult>>();
+			future.fail(e);
+			return future;
+		}
+		return send("callApis", args,
+				new PendingCall<TApi.callApis_result, List<ApiResult>>(
+						new TApi.callApis_result(), waitMillisecs(0)) {
+					@Override
+					protected List<ApiResult> toResult(
+							TApi.callApis_result result) throws Exception {
+						if (!result.isSetSuccess()) {
+							throw missingResult("callApis");
+						}
+						return ThriftApiClient.toApiResults(result.success);
+					}
+				});
+	}
+
+	private static TApplicationException missingResult(String method) {
+		return new TApplicationException(
+				TApplicationException.MISSING_RESULT, method
+						+ " failed: unknown result");
+	}
+
+	@SuppressWarnings("rawtypes")
+	private <T> ApiFuture<T> send(String method, TBase args,
+			PendingCall<?, T> call) {
+		try {
+			getConnection().send(method, args, call);
+		} catch (TException e) {
+			call.future.fail(e);
+		}
+		return call.future;
+	}
+
+	/*----------------------------------------------------------------------*/
+
+	/**
+	 * A call waiting for its response.
+	 */
+	@SuppressWarnings("rawtypes")
+	private static abstract class PendingCall<R extends TBase, T> {
+		final R result;
+		final ApiFuture<T> future = new ApiFuture<T>();
+		final long waitMillisecs;
+		volatile long sentNanos;
+
+		/**
+		 * @param result
+		 * @param waitMillisecs
+		 *            max time to wait for the response, {@code 0} for no limit
+		 */
+		PendingCall(R result, long waitMillisecs) {
+			this.result = result;
+			this.waitMillisecs = waitMillisecs;
+		}
+
+		protected abstract T toResult(R result) throws Exception;
+
+		void read(TProtocol iprot) throws TException {
+			result.read(iprot);
+		}
+
+		void complete() {
+			T value;
+			try {
+				value = toResult(result);
+			} catch (Exception e) {
+				future.fail(e);
+				return;
+			}
+			future.complete(value);
+		}
+	}
+
+	/**
+	 * A connection to the server: requests are written by calling threads,
+	 * responses are read by this thread.
+	 */
+	private class Connection extends Thread {
+		private final TTransport transport;
+		private final TProtocol iprot, oprot;
+		private final Map<Integer, PendingCall<?, ?>> pendingCalls = new ConcurrentHashMap<Integer, PendingCall<?, ?>>();
+		private final Object writeLock = new Object();
+		private int seqid = 0;
+		volatile boolean closed = false;
+
+		Connection(TTransport transport, TProtocolFactory protocolFactory,
+				String name) {
+			super(name);
+			setDaemon(true);
+			this.transport = transport;
+			// separate protocol instances: some protocols (e.g. compact)
+			// keep state that must not be shared between reader and writer
+			this.iprot = protocolFactory.getProtocol(transport);
+			this.oprot = protocolFactory.getProtocol(transport);
+		}
+
+		@SuppressWarnings("rawtypes")
+		void send(String method, TBase args, PendingCall<?, ?> call)
+				throws TException {
+			synchronized (writeLock) {
+				if (closed) {
+					throw new TTransportException(
+							TTransportException.NOT_OPEN, "Connection closed!");
+				}
+				int id = ++seqid;
+				call.sentNanos = System.nanoTime();
+				pendingCalls.put(id, call);
+				if (closed) {
+					// closed concurrently, maybe after pending calls were failed
+					pendingCalls.remove(id);
+					throw new TTransportException(
+							TTransportException.NOT_OPEN, "Connection closed!");
+				}
+				try {
+					oprot.writeMessageBegin(new TMessage(method,
+							TMessageType.CALL, id));
+					args.write(oprot);
+					oprot.writeMessageEnd();
+					oprot.getTransport().flush();
+				} catch (TException e) {
+					pendingCalls.remove(id);
+					close(e);
+					throw e;
+				}
+			}
+		}
+
+		/**
+		 * Finds a pending call that has waited longer than its wait timeout.
+		 *
+		 * @return {@code null} if none
+		 */
+		PendingCall<?, ?> overdueCall() {
+			long now = System.nanoTime();
+			for (PendingCall<?, ?> call : pendingCalls.values()) {
+				if (call.waitMillisecs > 0
+						&& now - call.sentNanos > TimeUnit.MILLISECONDS
+								.toNanos(call.waitMillisecs)) {
+					return call;
+				}
+			}
+			return null;
+		}
+
+		/**
+		 * Closes the connection, all pending calls fail.
+		 *
+		 * @param cause
+		 */
+		void close(Exception cause) {
+			closed = true;
+			transport.close();
+			List<PendingCall<?, ?>> calls = new ArrayList<PendingCall<?, ?>>(
+					pendingCalls.values());
+			pendingCalls.clear();
+			for (PendingCall<?, ?> call : calls) {
+				call.future.fail(cause);
+			}
+		}
+
+		@Override
+		public void run() {
+			try {
+				while (!closed) {
+					TMessage msg = iprot.readMessageBegin();
+					PendingCall<?, ?> call = pendingCalls.remove(msg.seqid);
+					if (msg.type == TMessageType.EXCEPTION) {
+						TApplicationException e = TApplicationException
+								.read(iprot);
+						iprot.readMessageEnd();
+						if (call != null) {
+							call.future.fail(e);
+						}
+					} else if (call == null) {
+						TProtocolUtil.skip(iprot, TType.STRUCT);
+						iprot.readMessageEnd();
+					} else {
+						call.read(iprot);
+						iprot.readMessageEnd();
+						call.complete();
+					}
+				}
+			} catch (Exception e) {
+				if (!closed) {
+					LOGGER.warn("Connection to [" + host + ":" + port
+							+ "] broken: " + e.getMessage());
+					close(e);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,438 @@
+package com.github.ddth.frontapi.client;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.pool.BasePoolableObjectFactory;
+import org.apache.commons.pool.impl.GenericObjectPool;
+import org.apache.thrift.TException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.ddth.frontapi.ApiCall;
+import com.github.ddth.frontapi.ApiResult;
+import com.github.ddth.frontapi.FrontApiConstants;
+import com.github.ddth.frontapi.IApi;
+import com.github.ddth.frontapi.client.ThriftApiClient.DataEncoding;
+import com.github.ddth.frontapi.internal.thrift.ThriftUtils;
+
+/**
+ * {@link IApiClient}: Thrift implementation backed by a pool of
+ * {@link ThriftApiClient}s.
+ *
+ * <p>
+ * Each call borrows a connection from the pool; connections that fail with a
+ * Thrift/transport error are discarded instead of being returned to the pool.
+ * Idle connections are checked periodically by calling a (cheap) validation
+ * API, and closed after being idle for too long. This client is thread-safe.
+ * </p>
+ *
+ * @author Thanh Ba Nguyen <btnguyen2k@gmail.com>
+ * @since 0.1.4
+ */
+public class PooledThriftApiClient implements IExtendedApiClient {
+
+	public final static int DEFAULT_MAX_ACTIVE = 32;
+	public final static int DEFAULT_MAX_IDLE = 8;
+	public final static int DEFAULT_MIN_IDLE = 1;
+	public final static long DEFAULT_MAX_WAIT = 5000;
+	public final static long DEFAULT_EVICTION_INTERVAL = 30000;
+	public final static long DEFAULT_MIN_EVICTABLE_IDLE_TIME = 300000;
+
+	private final Logger LOGGER = LoggerFactory
+			.getLogger(PooledThriftApiClient.class);
+
+	private String host;
+	private int port;
+	private DataEncoding dataEncoding = DataEncoding.JSON_STRING;
+	private String protocol = ThriftUtils.PROTOCOL_BINARY;
+	private int maxActive = DEFAULT_MAX_ACTIVE;
+	private int maxIdle = DEFAULT_MAX_IDLE;
+	private int minIdle = DEFAULT_MIN_IDLE;
+	private long maxWaitMillisecs = DEFAULT_MAX_WAIT;
+	private boolean testOnBorrow = false;
+	private long evictionIntervalMillisecs = DEFAULT_EVICTION_INTERVAL;
+	private long minEvictableIdleTimeMillisecs = DEFAULT_MIN_EVICTABLE_IDLE_TIME;
+	private String validationModule = FrontApiConstants.MODULE_NAME,
+			validationApi = FrontApiConstants.API_PING;
+
+	private volatile GenericObjectPool<ThriftApiClient> pool;
+	private AtomicLong numCreated = new AtomicLong(),
+			numDestroyed = new AtomicLong(), numBorrowed = new AtomicLong(),
+			numInvalidated = new AtomicLong(),
+			numValidationFailures = new AtomicLong();
+
+	public PooledThriftApiClient() {
+	}
+
+	public PooledThriftApiClient(String host, int port) {
+		setHost(host);
+		setPort(port);
+	}
+
+	public String getHost() {
+		return host;
+	}
+
+	public PooledThriftApiClient setHost(String host) {
+		this.host = host;
+		return this;
+	}
+
+	public int getPort() {
+		return port;
+	}
+
+	public PooledThriftApiClient setPort(int port) {
+		this.port = port;
+		return this;
+	}
+
+	public DataEncoding getDataEncoding() {
+		return dataEncoding;
+	}
+
+	public PooledThriftApiClient setDataEncoding(DataEncoding dataEncoding) {
+		this.dataEncoding = dataEncoding;
+		return this;
+	}
+
+	public String getProtocol() {
+		return protocol;
+	}
+
+	public PooledThriftApiClient setProtocol(String protocol) {
+		this.protocol = protocol;
+		return this;
+	}
+
+	/**
+	 * Max number of connections (borrowed and idle).
+	 *
+	 * @return
+	 */
+	public int getMaxActive() {
+		return maxActive;
+	}
+
+	public PooledThriftApiClient setMaxActive(int maxActive) {
+		this.maxActive = maxActive;
+		return this;
+	}
+
+	public int getMaxIdle() {
+		return maxIdle;
+	}
+
+	public PooledThriftApiClient setMaxIdle(int maxIdle) {
+		this.maxIdle = maxIdle;
+		return this;
+	}
+
+	public int getMinIdle() {
+		return minIdle;
+	}
+
+	public PooledThriftApiClient setMinIdle(int minIdle) {
+		this.minIdle = minIdle;
+		return this;
+	}
+
+	/**
+	 * Max time to wait for a connection when the pool is exhausted.
+	 *
+	 * @return
+	 */
+	public long getMaxWaitMillisecs() {
+		return maxWaitMillisecs;
+	}
+
+	public PooledThriftApiClient setMaxWaitMillisecs(long maxWaitMillisecs) {
+		this.maxWaitMillisecs = maxWaitMillisecs;
+		return this;
+	}
+
+	/**
+	 * Validates connections (by calling the validation API) before lending
+	 * them out; costs an extra round trip per call. Connections are always
+	 * checked to be open on borrow.
+	 *
+	 * @return
+	 */
+	public boolean isTestOnBorrow() {
+		return testOnBorrow;
+	}
+
+	public PooledThriftApiClient setTestOnBorrow(boolean testOnBorrow) {
+		this.testOnBorrow = testOnBorrow;
+		return this;
+	}
+
+	/**
+	 * Interval between runs of the idle connection evictor, {@code 0} or
+	 * negative disables the evictor.
+	 *
+	 * @return
+	 */
+	public long getEvictionIntervalMillisecs() {
+		return evictionIntervalMillisecs;
+	}
+
+	public PooledThriftApiClient setEvictionIntervalMillisecs(
+			long evictionIntervalMillisecs) {
+		this.evictionIntervalMillisecs = evictionIntervalMillisecs;
+		return this;
+	}
+
+	public long getMinEvictableIdleTimeMillisecs() {
+		return minEvictableIdleTimeMillisecs;
+	}
+
+	public PooledThriftApiClient setMinEvictableIdleTimeMillisecs(
+			long minEvictableIdleTimeMillisecs) {
+		this.minEvictableIdleTimeMillisecs = minEvictableIdleTimeMillisecs;
+		return this;
+	}
+
+	/**
+	 * API used to validate connections, {@code frontapi/ping} by default.
+	 *
+	 * @param moduleName
+	 * @param apiName
+	 * @return
+	 */
+	public PooledThriftApiClient setValidationApi(String moduleName,
+			String apiName) {
+		this.validationModule = moduleName;
+		this.validationApi = apiName;
+		return this;
+	}
+
+	/**
+	 * Initializes the client (called by the first call if not called
+	 * explicitly).
+	 *
+	 * @throws Exception
+	 */
+	synchronized public void init() throws Exception {
+		if (pool != null) {
+			return;
+		}
+		GenericObjectPool<ThriftApiClient> pool = new GenericObjectPool<ThriftApiClient>(
+				new ClientFactory());
+		pool.setMaxActive(maxActive);
+		pool.setMaxIdle(maxIdle);
+		pool.setMinIdle(minIdle);
+		pool.setMaxWait(maxWaitMillisecs);
+		pool.setWhenExhaustedAction(GenericObjectPool.WHEN_EXHAUSTED_BLOCK);
+		pool.setTestOnBorrow(testOnBorrow);
+		pool.setTestWhileIdle(true);
+		pool.setTimeBetweenEvictionRunsMillis(evictionIntervalMillisecs);
+		pool.setMinEvictableIdleTimeMillis(minEvictableIdleTimeMillisecs);
+		pool.setNumTestsPerEvictionRun(Math.max(1, maxIdle));
+		this.pool = pool;
+	}
+
+	private GenericObjectPool<ThriftApiClient> getPool() throws Exception {
+		GenericObjectPool<ThriftApiClient> result = pool;
+		if (result == null) {
+			init();
+			result = pool;
+		}
+		return result;
+	}
+
+	/**
+	 * Destroys the client, closes all connections.
+	 */
+	synchronized public void destroy() {
+		if (pool != null) {
+			try {
+				pool.close();
+			} catch (Exception e) {
+				LOGGER.warn(e.getMessage(), e);
+			}
+			pool = null;
+		}
+	}
+
+	/*----------------------------------------------------------------------*/
+	/* Pool metrics */
+
+	/**
+	 * Number of connections currently borrowed.
+	 *
+	 * @return
+	 */
+	public int getNumActive() {
+		GenericObjectPool<ThriftApiClient> pool = this.pool;
+		return pool != null ? pool.getNumActive() : 0;
+	}
+
+	/**
+	 * Number of idle connections in the pool.
+	 *
+	 * @return
+	 */
+	public int getNumIdle() {
+		GenericObjectPool<ThriftApiClient> pool = this.pool;
+		return pool != null ? pool.getNumIdle() : 0;
+	}
+
+	public long getNumCreated() {
+		return numCreated.get();
+	}
+
+	public long getNumDestroyed() {
+		return numDestroyed.get();
+	}
+
+	public long getNumBorrowed() {
+		return numBorrowed.get();
+	}
+
+	/**
+	 * Number of connections discarded after failed calls.
+	 *
+	 * @return
+	 */
+	public long getNumInvalidated() {
+		return numInvalidated.get();
+	}
+
+	public long getNumValidationFailures() {
+		return numValidationFailures.get();
+	}
+
+	/*----------------------------------------------------------------------*/
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ApiResult call(String authKey, String moduleName, String apiName,
+			Object apiInput) throws Exception {
+		return call(authKey, moduleName, apiName, apiInput, 0);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ApiResult call(String authKey, String moduleName, String apiName,
+			Object apiInput, long timeoutMillisecs) throws Exception {
+		GenericObjectPool<ThriftApiClient> clientPool = getPool();
+		ThriftApiClient client = borrow(clientPool);
+		try {
+			ApiResult result = client.call(authKey, moduleName, apiName,
+					apiInput, dataEncoding, timeoutMillisecs);
+			release(clientPool, client, false);
+			return result;
+		} catch (TException e) {
+			release(clientPool, client, true);
+			throw e;
+		} catch (Exception e) {
+			release(clientPool, client, false);
+			throw e;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<ApiResult> callApis(String authKey, List<ApiCall> calls)
+			throws Exception {
+		GenericObjectPool<ThriftApiClient> clientPool = getPool();
+		ThriftApiClient client = borrow(clientPool);
+		try {
+			List<ApiResult> result = client.callApis(authKey, calls);
+			release(clientPool, client, false);
+			return result;
+		} catch (TException e) {
+			release(clientPool, client, true);
+			throw e;
+		} catch (Exception e) {
+			release(clientPool, client, false);
+			throw e;
+		}
+	}
+
+	private ThriftApiClient borrow(GenericObjectPool<ThriftApiClient> pool)
+			throws Exception {
+		ThriftApiClient client = pool.borrowObject();
+		numBorrowed.incrementAndGet();
+		return client;
+	}
+
+	/**
+	 * Returns a connection to the pool it was borrowed from, or discards it if
+	 * it is broken.
+	 *
+	 * @param pool
+	 * @param client
+	 * @param broken
+	 */
+	private void release(GenericObjectPool<ThriftApiClient> pool,
+			ThriftApiClient client, boolean broken) {
+		try {
+			if (broken) {
+				numInvalidated.incrementAndGet();
+				pool.invalidateObject(client);
+			} else {
+				pool.returnObject(client);
+			}
+		} catch (Exception e) {
+			LOGGER.warn(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Creates, checks and destroys pooled {@link ThriftApiClient}s.
+	 */
+	private class ClientFactory extends
+			BasePoolableObjectFactory<ThriftApiClient> {
+		@Override
+		public ThriftApiClient makeObject() throws Exception {
+			ThriftApiClient client = new ThriftApiClient(host, port)
+					.setProtocol(protocol).setDataEncoding(dataEncoding);
+			client.init();
+			numCreated.incrementAndGet();
+			return client;
+		}
+
+		@Override
+		public void destroyObject(ThriftApiClient client) throws Exception {
+			numDestroyed.incrementAndGet();
+			client.destroy();
+		}
+
+		/**
+		 * Cheap check on borrow: the pool discards the connection and makes
+		 * another one if this method throws exception.
+		 */
+		@Override
+		public void activateObject(ThriftApiClient client) throws Exception {
+			if (!client.isOpen()) {
+				throw new IllegalStateException("Connection is closed!");
+			}
+		}
+
+		@Override
+		public boolean validateObject(ThriftApiClient client) {
+			boolean valid;
+			try {
+				valid = client.isOpen()
+						&& (validationModule == null || client.call(
+								IApi.OPEN_AUTHKEY, validationModule,
+								validationApi, null).getStatus() == IApi.STATUS_OK);
+			} catch (Exception e) {
+				valid = false;
+			}
+			if (!valid) {
+				numValidationFailures.incrementAndGet();
+			}
+			return valid;
+		}
+	}
+}
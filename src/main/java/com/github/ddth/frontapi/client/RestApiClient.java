@@ -1,26 +1,59 @@
 package com.github.ddth.frontapi.client;
 
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 import org.apache.commons.lang3.StringUtils;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.params.HttpClientParams;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.params.HttpConnectionParams;
+import org.apache.http.params.HttpParams;
+import org.apache.http.util.EntityUtils;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.github.ddth.frontapi.ApiCall;
 import com.github.ddth.frontapi.ApiResult;
+import com.github.ddth.frontapi.FrontApiConstants;
 import com.github.ddth.frontapi.IApi;
-import com.github.ddth.frontapi.client.impl.httpclient.HttpRequest;
-import com.github.ddth.frontapi.client.impl.httpclient.HttpResponse;
 import com.github.ddth.frontapi.internal.JsonUtils;
 
 /**
  * {@link IApiClient}: REST implementation.
  * 
  * <p>
- * This API client calls REST APIs using http-POST method.
+ * This API client calls REST APIs using http-POST method. Http connections
+ * are kept alive and reused from a bounded pool (see
+ * {@link #setMaxConnections(int)}). This client is thread-safe.
  * </p>
  * 
  * @author Thanh Ba Nguyen <btnguyen2k@gmail.com>
  * @since 0.1.0
  */
-public class RestApiClient implements IApiClient {
+public class RestApiClient implements IExtendedApiClient {
+
+    public final static int DEFAULT_CONNECT_TIMEOUT = 3000;
+    public final static int DEFAULT_READ_TIMEOUT = 10000;
+    public final static int DEFAULT_MAX_CONNECTIONS = 20;
+
+    private final static ContentType CONTENT_TYPE_JSON = ContentType.create("application/json",
+            "UTF-8");
+    private final static byte[] EMPTY_BODY = new byte[0];
 
     private String endpoint;
+    private int connectTimeoutMillisecs = DEFAULT_CONNECT_TIMEOUT;
+    private int readTimeoutMillisecs = DEFAULT_READ_TIMEOUT;
+    private int maxConnections = DEFAULT_MAX_CONNECTIONS;
+    private PoolingClientConnectionManager connectionManager;
+    private HttpClient httpClient;
 
     public RestApiClient() {
     }
@@ -38,6 +71,108 @@ public class RestApiClient implements IApiClient {
         return this;
     }
 
+    /**
+     * @return
+     * @since 0.1.4
+     */
+    public int getConnectTimeoutMillisecs() {
+        return connectTimeoutMillisecs;
+    }
+
+    /**
+     * Timeout to establish a connection, and to wait for a connection from
+     * the pool.
+     * 
+     * @param connectTimeoutMillisecs
+     * @return
+     * @since 0.1.4
+     */
+    public RestApiClient setConnectTimeoutMillisecs(int connectTimeoutMillisecs) {
+        this.connectTimeoutMillisecs = connectTimeoutMillisecs;
+        return this;
+    }
+
+    /**
+     * @return
+     * @since 0.1.4
+     */
+    public int getReadTimeoutMillisecs() {
+        return readTimeoutMillisecs;
+    }
+
+    /**
+     * Socket read timeout.
+     * 
+     * @param readTimeoutMillisecs
+     * @return
+     * @since 0.1.4
+     */
+    public RestApiClient setReadTimeoutMillisecs(int readTimeoutMillisecs) {
+        this.readTimeoutMillisecs = readTimeoutMillisecs;
+        return this;
+    }
+
+    /**
+     * @return
+     * @since 0.1.4
+     */
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * Max number of (keep-alive) connections to the endpoint.
+     * 
+     * @param maxConnections
+     * @return
+     * @since 0.1.4
+     */
+    public RestApiClient setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+        return this;
+    }
+
+    /**
+     * Initializes the client. Optional: the client is initialized on the
+     * first call if needed.
+     * 
+     * @since 0.1.4
+     */
+    synchronized public void init() {
+        if (httpClient == null) {
+            connectionManager = new PoolingClientConnectionManager();
+            connectionManager.setMaxTotal(maxConnections);
+            connectionManager.setDefaultMaxPerRoute(maxConnections);
+            DefaultHttpClient client = new DefaultHttpClient(connectionManager);
+            HttpParams params = client.getParams();
+            HttpConnectionParams.setConnectionTimeout(params, connectTimeoutMillisecs);
+            HttpConnectionParams.setSoTimeout(params, readTimeoutMillisecs);
+            HttpConnectionParams.setTcpNoDelay(params, true);
+            HttpClientParams.setConnectionManagerTimeout(params, connectTimeoutMillisecs);
+            httpClient = client;
+        }
+    }
+
+    /**
+     * Destroys the client, closes all connections.
+     * 
+     * @since 0.1.4
+     */
+    synchronized public void destroy() {
+        if (connectionManager != null) {
+            connectionManager.shutdown();
+            connectionManager = null;
+        }
+        httpClient = null;
+    }
+
+    synchronized private HttpClient getHttpClient() {
+        if (httpClient == null) {
+            init();
+        }
+        return httpClient;
+    }
+
     private String buildUrl(String authKey, String moduleName, String apiName) {
         StringBuilder sb = new StringBuilder(endpoint);
         sb.append("/").append(!StringUtils.isBlank(authKey) ? authKey : IApi.OPEN_AUTHKEY);
@@ -56,22 +191,75 @@ public class RestApiClient implements IApiClient {
     @Override
     public ApiResult call(String authKey, String moduleName, String apiName, Object apiInput)
             throws Exception {
+        return call(authKey, moduleName, apiName, apiInput, 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @since 0.1.4
+     */
+    @Override
+    public ApiResult call(String authKey, String moduleName, String apiName, Object apiInput,
+            long timeoutMillisecs) throws Exception {
         String url = buildUrl(authKey, moduleName, apiName);
-        String apiParams = JsonUtils.toJsonString(apiInput);
-        HttpRequest httpRequest = new HttpRequest(url);
-        HttpResponse httpResponse = httpRequest.doPost(apiParams);
-        int statusCode = httpResponse.statusCode();
-        if (statusCode != 200) {
-            return new ApiResult(statusCode, httpResponse.content());
-        } else {
+        byte[] apiParams = JsonUtils.toJsonBytes(apiInput);
+        HttpPost httpPost = new HttpPost(url);
+        httpPost.setEntity(new ByteArrayEntity(apiParams != null ? apiParams : EMPTY_BODY,
+                CONTENT_TYPE_JSON));
+        if (timeoutMillisecs > 0) {
+            httpPost.setHeader(FrontApiConstants.REST_HEADER_TIMEOUT,
+                    String.valueOf(timeoutMillisecs));
+        }
+        HttpResponse httpResponse = getHttpClient().execute(httpPost);
+        HttpEntity entity = httpResponse.getEntity();
+        try {
+            int statusCode = httpResponse.getStatusLine().getStatusCode();
+            if (statusCode != 200) {
+                return new ApiResult(statusCode, entity != null ? EntityUtils.toString(entity,
+                        "UTF-8") : null);
+            }
+            if (entity == null) {
+                return emptyResponse();
+            }
+            InputStream is = entity.getContent();
             try {
-                ApiResult apiResult = JsonUtils.fromJsonString(httpResponse.content(),
-                        ApiResult.class);
-                return apiResult;
-            } catch (Exception e) {
-                return new ApiResult(500, httpResponse.content());
+                ApiResult apiResult = JsonUtils.fromJsonStream(is, ApiResult.class);
+                return apiResult != null ? apiResult : emptyResponse();
+            } catch (JsonProcessingException e) {
+                return new ApiResult(500, e.getMessage());
+            } finally {
+                is.close();
             }
+        } finally {
+            // fully consume the response so that the connection can be reused
+            EntityUtils.consume(entity);
+        }
+    }
+
+    private static ApiResult emptyResponse() {
+        return new ApiResult(IApi.STATUS_SERVER_ERROR, "Empty response!");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<ApiResult> callApis(String authKey, List<ApiCall> calls) throws Exception {
+        ApiResult batchResult = call(authKey, FrontApiConstants.REST_BATCH_PATH, null, calls);
+        Object output = batchResult.getOutput();
+        if (batchResult.getStatus() != 200 || !(output instanceof List)) {
+            throw new Exception("Batch call failed: " + batchResult.getStatus() + " - " + output);
+        }
+        List<?> outputs = (List<?>) output;
+        List<ApiResult> result = new ArrayList<ApiResult>(outputs.size());
+        for (Object entry : outputs) {
+            Map<?, ?> map = entry instanceof Map ? (Map<?, ?>) entry : null;
+            Object status = map != null ? map.get(ApiResult.FIELD_STATUS) : null;
+            result.add(new ApiResult(status instanceof Number ? ((Number) status).intValue()
+                    : 500, map != null ? map.get(ApiResult.FIELD_OUTPUT) : entry));
         }
+        return result;
     }
 
     public static void main(String[] args) throws Exception {
@@ -1,14 +1,21 @@
 package com.github.ddth.frontapi.client;
 
-import org.apache.thrift.protocol.TBinaryProtocol;
+import java.util.ArrayList;
+import java.util.List;
+
 import org.apache.thrift.transport.TFramedTransport;
 import org.apache.thrift.transport.TSocket;
 import org.apache.thrift.transport.TTransport;
 
+import com.github.ddth.frontapi.ApiCall;
 import com.github.ddth.frontapi.ApiResult;
 import com.github.ddth.frontapi.internal.JsonUtils;
 import com.github.ddth.frontapi.internal.thrift.TApi;
+import com.github.ddth.frontapi.internal.thrift.TApiBinaryResult;
+import com.github.ddth.frontapi.internal.thrift.TApiCall;
 import com.github.ddth.frontapi.internal.thrift.TApiResult;
+import com.github.ddth.frontapi.internal.thrift.TDataEncoding;
+import com.github.ddth.frontapi.internal.thrift.ThriftUtils;
 
 /**
  * {@link IApiClient}: Thrift implementation.
@@ -20,10 +27,34 @@ import com.github.ddth.frontapi.internal.thrift.TApiResult;
  * @author Thanh Ba Nguyen <btnguyen2k@gmail.com>
  * @since 0.1.0
  */
-public class ThriftApiClient implements IApiClient {
+public class ThriftApiClient implements IExtendedApiClient {
+
+	/**
+	 * How API's input and output are encoded when sending over Thrift.
+	 * 
+	 * @since 0.1.4
+	 */
+	public static enum DataEncoding {
+		/**
+		 * Json string, via {@code TApi.callApi}; works with all servers.
+		 */
+		JSON_STRING,
+
+		/**
+		 * UTF-8 encoded Json data, via {@code TApi.callApiBinary}.
+		 */
+		JSON,
+
+		/**
+		 * Smile (binary Json) data, via {@code TApi.callApiBinary}.
+		 */
+		SMILE
+	}
 
 	private String host;
 	private int port;
+	private DataEncoding dataEncoding = DataEncoding.JSON_STRING;
+	private String protocol = ThriftUtils.PROTOCOL_BINARY;
 	private TTransport transport;
 	private TApi.Client client;
 
@@ -53,6 +84,48 @@ public class ThriftApiClient implements IApiClient {
 		return this;
 	}
 
+	/**
+	 * @return
+	 * @since 0.1.4
+	 */
+	public DataEncoding getDataEncoding() {
+		return dataEncoding;
+	}
+
+	/**
+	 * Sets the default data encoding used by
+	 * {@link #call(String, String, String, Object)}.
+	 * 
+	 * @param dataEncoding
+	 * @return
+	 * @since 0.1.4
+	 */
+	public ThriftApiClient setDataEncoding(DataEncoding dataEncoding) {
+		this.dataEncoding = dataEncoding;
+		return this;
+	}
+
+	/**
+	 * @return
+	 * @since 0.1.4
+	 */
+	public String getProtocol() {
+		return protocol;
+	}
+
+	/**
+	 * Sets the Thrift protocol ({@code binary} or {@code compact}), must be
+	 * the same as server's {@code frontapi.thrift.protocol}.
+	 * 
+	 * @param protocol
+	 * @return
+	 * @since 0.1.4
+	 */
+	public ThriftApiClient setProtocol(String protocol) {
+		this.protocol = protocol;
+		return this;
+	}
+
 	/**
 	 * Initializes the client.
 	 * 
@@ -62,7 +135,8 @@ public class ThriftApiClient implements IApiClient {
 	public void init() throws Exception {
 		transport = new TFramedTransport(new TSocket(host, port, 5000));
 		transport.open();
-		client = new TApi.Client(new TBinaryProtocol(transport));
+		client = new TApi.Client(ThriftUtils.createProtocolFactory(protocol)
+				.getProtocol(transport));
 	}
 
 	/**
@@ -77,17 +151,114 @@ public class ThriftApiClient implements IApiClient {
 		}
 	}
 
+	/**
+	 * Checks if the underlying transport is open. Note: a connection closed
+	 * by the server may still be reported as open until the next call.
+	 * 
+	 * @return
+	 * @since 0.1.4
+	 */
+	public boolean isOpen() {
+		return transport != null && transport.isOpen();
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
 	public ApiResult call(String authKey, String moduleName, String apiName,
 			Object apiInput) throws Exception {
+		return call(authKey, moduleName, apiName, apiInput, dataEncoding, 0);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @since 0.1.4
+	 */
+	@Override
+	public ApiResult call(String authKey, String moduleName, String apiName,
+			Object apiInput, long timeoutMillisecs) throws Exception {
+		return call(authKey, moduleName, apiName, apiInput, dataEncoding,
+				timeoutMillisecs);
+	}
+
+	/**
+	 * Makes the API call, input and output are encoded using the specified
+	 * encoding.
+	 * 
+	 * @param authKey
+	 * @param moduleName
+	 * @param apiName
+	 * @param apiInput
+	 * @param dataEncoding
+	 * @return
+	 * @throws Exception
+	 * @since 0.1.4
+	 */
+	public ApiResult call(String authKey, String moduleName, String apiName,
+			Object apiInput, DataEncoding dataEncoding) throws Exception {
+		return call(authKey, moduleName, apiName, apiInput, dataEncoding, 0);
+	}
+
+	/**
+	 * Makes the API call with a deadline, input and output are encoded using
+	 * the specified encoding.
+	 * 
+	 * @param authKey
+	 * @param moduleName
+	 * @param apiName
+	 * @param apiInput
+	 * @param dataEncoding
+	 * @param timeoutMillisecs
+	 *            {@code 0} for none
+	 * @return
+	 * @throws Exception
+	 * @since 0.1.4
+	 */
+	public ApiResult call(String authKey, String moduleName, String apiName,
+			Object apiInput, DataEncoding dataEncoding, long timeoutMillisecs)
+			throws Exception {
+		if (!transport.isOpen()) {
+			transport.open();
+		}
+		TDataEncoding encoding = toTDataEncoding(dataEncoding);
+		if (encoding == null) {
+			return toApiResult(client.callApi(authKey, moduleName, apiName,
+					JsonUtils.toJsonString(apiInput), timeoutMillisecs));
+		}
+		return toApiResult(encoding, client.callApiBinary(authKey, moduleName,
+				apiName, encoding, ThriftUtils.encode(encoding, apiInput),
+				timeoutMillisecs));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<ApiResult> callApis(String authKey, List<ApiCall> calls)
+			throws Exception {
 		if (!transport.isOpen()) {
 			transport.open();
 		}
-		TApiResult tapiResult = client.callApi(authKey, moduleName, apiName,
-				JsonUtils.toJsonString(apiInput));
+		return toApiResults(client.callApis(authKey, toTApiCalls(calls)));
+	}
+
+	/*----------------------------------------------------------------------*/
+
+	/**
+	 * @param dataEncoding
+	 * @return {@code null} for {@link DataEncoding#JSON_STRING}
+	 */
+	static TDataEncoding toTDataEncoding(DataEncoding dataEncoding) {
+		if (dataEncoding == null || dataEncoding == DataEncoding.JSON_STRING) {
+			return null;
+		}
+		return dataEncoding == DataEncoding.SMILE ? TDataEncoding.SMILE
+				: TDataEncoding.JSON;
+	}
+
+	static ApiResult toApiResult(TApiResult tapiResult) {
 		try {
 			return new ApiResult(tapiResult.status,
 					JsonUtils.fromJsonString(tapiResult.jsonOutput));
@@ -95,4 +266,44 @@ public class ThriftApiClient implements IApiClient {
 			return new ApiResult(500, tapiResult.jsonOutput);
 		}
 	}
+
+	static ApiResult toApiResult(TDataEncoding encoding,
+			TApiBinaryResult tapiResult) {
+		return new ApiResult(tapiResult.status, ThriftUtils.decode(encoding,
+				tapiResult.output));
+	}
+
+	static List<ApiResult> toApiResults(List<TApiResult> tapiResults) {
+		List<ApiResult> result = new ArrayList<ApiResult>(tapiResults.size());
+		for (TApiResult tapiResult : tapiResults) {
+			result.add(toApiResult(tapiResult));
+		}
+		return result;
+	}
+
+	/**
+	 * Converts batch calls to Thrift calls; a {@code null} list is treated as
+	 * empty.
+	 *
+	 * @param calls
+	 * @return
+	 * @throws IllegalArgumentException
+	 *             if a call is {@code null} (Thrift can not send it)
+	 */
+	static List<TApiCall> toTApiCalls(List<ApiCall> calls) {
+		if (calls == null) {
+			return new ArrayList<TApiCall>();
+		}
+		List<TApiCall> result = new ArrayList<TApiCall>(calls.size());
+		for (int i = 0, n = calls.size(); i < n; i++) {
+			ApiCall call = calls.get(i);
+			if (call == null) {
+				throw new IllegalArgumentException("Call at index [" + i
+						+ "] is null!");
+			}
+			result.add(new TApiCall(call.getModuleName(), call.getApiName(),
+					JsonUtils.toJsonString(call.getParams())));
+		}
+		return result;
+	}
 }
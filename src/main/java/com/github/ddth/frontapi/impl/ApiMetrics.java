@@ -0,0 +1,118 @@
+package com.github.ddth.frontapi.impl;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import com.github.ddth.frontapi.ApiResult;
+import com.github.ddth.frontapi.IApi;
+import com.yammer.metrics.core.Counter;
+import com.yammer.metrics.core.MetricName;
+import com.yammer.metrics.core.MetricsRegistry;
+import com.yammer.metrics.core.Timer;
+
+/**
+ * Metrics of an API: call timer (rate and latency), number of in-flight calls
+ * and number of failed calls by status.
+ *
+ * <p>
+ * Metrics are registered to a {@link MetricsRegistry} under group
+ * {@value #GROUP}, type {@code <module-name>}, scope {@code <api-name>}.
+ * </p>
+ *
+ * @author Thanh Ba Nguyen <btnguyen2k@gmail.com>
+ * @since 0.1.4
+ */
+public class ApiMetrics {
+
+    public final static String GROUP = "frontapi";
+
+    private final MetricsRegistry metricsRegistry;
+    private final String moduleName, apiName;
+    private final Timer calls;
+    private final Counter inFlight;
+    private final ConcurrentMap<Integer, Counter> failures = new ConcurrentHashMap<Integer, Counter>();
+
+    public ApiMetrics(MetricsRegistry metricsRegistry, String moduleName, String apiName) {
+        this.metricsRegistry = metricsRegistry;
+        this.moduleName = moduleName;
+        this.apiName = apiName;
+        this.calls = metricsRegistry.newTimer(metricName("calls"), TimeUnit.MILLISECONDS,
+                TimeUnit.SECONDS);
+        this.inFlight = metricsRegistry.newCounter(metricName("in-flight"));
+    }
+
+    private MetricName metricName(String name) {
+        return new MetricName(GROUP, moduleName, name, apiName);
+    }
+
+    public String getModuleName() {
+        return moduleName;
+    }
+
+    public String getApiName() {
+        return apiName;
+    }
+
+    /**
+     * Timer of all calls (successful or not).
+     *
+     * @return
+     */
+    public Timer getCalls() {
+        return calls;
+    }
+
+    /**
+     * Number of calls currently in progress.
+     *
+     * @return
+     */
+    public long getInFlight() {
+        return inFlight.count();
+    }
+
+    /**
+     * Number of failed calls, by status.
+     *
+     * @return
+     */
+    public Map<Integer, Long> getFailures() {
+        Map<Integer, Long> result = new TreeMap<Integer, Long>();
+        for (Map.Entry<Integer, Counter> entry : failures.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().count());
+        }
+        return result;
+    }
+
+    /**
+     * Called when a call starts.
+     */
+    void callStarted() {
+        inFlight.inc();
+    }
+
+    /**
+     * Called when a call ends.
+     *
+     * @param apiResult
+     *            {@code null} if the call ended abnormally
+     * @param durationNanos
+     */
+    void callEnded(ApiResult apiResult, long durationNanos) {
+        inFlight.dec();
+        calls.update(durationNanos, TimeUnit.NANOSECONDS);
+        int status = apiResult != null ? apiResult.getStatus() : IApi.STATUS_SERVER_ERROR;
+        if (status != IApi.STATUS_OK) {
+            Counter counter = failures.get(status);
+            if (counter == null) {
+                counter = metricsRegistry.newCounter(metricName("status-" + status));
+                Counter existing = failures.putIfAbsent(status, counter);
+                counter = existing != null ? existing : counter;
+            }
+            counter.inc();
+        }
+    }
+}
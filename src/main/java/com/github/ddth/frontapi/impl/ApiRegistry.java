@@ -1,16 +1,298 @@
 package com.github.ddth.frontapi.impl;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import com.github.ddth.frontapi.ApiCall;
+import com.github.ddth.frontapi.ApiFuture;
+import com.github.ddth.frontapi.ApiOptions;
 import com.github.ddth.frontapi.ApiParams;
 import com.github.ddth.frontapi.ApiResult;
 import com.github.ddth.frontapi.IApi;
+import com.github.ddth.frontapi.IApiCallback;
+import com.github.ddth.frontapi.IApiHandle;
 import com.github.ddth.frontapi.IApiRegistry;
+import com.github.ddth.frontapi.IAsyncApi;
+import com.github.ddth.frontapi.internal.JsonUtils;
+import com.yammer.metrics.core.MetricsRegistry;
 
 public class ApiRegistry implements IApiRegistry {
 
-    private Map<String, Map<String, IApi>> registeredApis = new ConcurrentHashMap<String, Map<String, IApi>>();
+    /*
+     * Immutable routing snapshot, replaced as a whole on register/unregister:
+     * lookups are a single volatile read followed by plain map reads.
+     */
+    private volatile RoutingTable routingTable = RoutingTable.EMPTY;
+    private ExecutorService batchExecutor;
+    private long batchTimeoutMillisecs = 0;
+    private ExecutorService timeoutExecutor;
+    private ScheduledExecutorService timeoutScheduler;
+    private ApiResultCache resultCache;
+    private MetricsRegistry metricsRegistry;
+
+    /* configured limits and timeouts, keyed by "module" or "module/api" */
+    private Map<String, Integer> concurrencyLimits = new ConcurrentHashMap<String, Integer>();
+    private Map<String, Long> timeouts = new ConcurrentHashMap<String, Long>();
+    private Map<String, ModuleBulkhead> moduleBulkheads = new HashMap<String, ModuleBulkhead>();
+
+    /* metrics of APIs, keyed by "module/api" */
+    private ConcurrentMap<String, ApiMetrics> apiMetrics = new ConcurrentHashMap<String, ApiMetrics>();
+
+    /* in-flight calls of idempotent APIs, keyed by call key */
+    private ConcurrentMap<String, Flight> inFlightCalls = new ConcurrentHashMap<String, Flight>();
+
+    /**
+     * Executor to run batch calls of non-async APIs in parallel; if not set,
+     * they are called one after another in the calling thread.
+     * 
+     * @return
+     * @since 0.1.4
+     */
+    public ExecutorService getBatchExecutor() {
+        return batchExecutor;
+    }
+
+    public ApiRegistry setBatchExecutor(ExecutorService batchExecutor) {
+        this.batchExecutor = batchExecutor;
+        return this;
+    }
+
+    /**
+     * Max time (ms) a batch of calls takes: calls not completed in time are
+     * answered with status 504 (async APIs are also cancelled, other APIs run
+     * to completion in the background). {@code 0} for none: a batch then completes when its slowest
+     * call does, i.e. it is bounded only by its APIs' own timeouts.
+     * 
+     * <p>
+     * Async callers ({@link #callApisAsync(String, List)}) are answered on
+     * time only if {@link #getTimeoutScheduler()} is set; sync callers
+     * ({@link #callApis(String, List)}) always wait at most this timeout.
+     * </p>
+     * 
+     * @return
+     * @since 0.1.4
+     */
+    public long getBatchTimeout() {
+        return batchTimeoutMillisecs;
+    }
+
+    public ApiRegistry setBatchTimeout(long timeoutMillisecs) {
+        this.batchTimeoutMillisecs = timeoutMillisecs > 0 ? timeoutMillisecs : 0;
+        return this;
+    }
+
+    /**
+     * Executor to run calls of non-async APIs that have a timeout: the caller
+     * waits at most the timeout, then the call is interrupted. If not set,
+     * timeouts of non-async APIs are not enforced.
+     * 
+     * @return
+     * @since 0.1.4
+     */
+    public ExecutorService getTimeoutExecutor() {
+        return timeoutExecutor;
+    }
+
+    public ApiRegistry setTimeoutExecutor(ExecutorService timeoutExecutor) {
+        this.timeoutExecutor = timeoutExecutor;
+        return this;
+    }
+
+    /**
+     * Scheduler to time out calls of async APIs. If not set, timeouts of
+     * async APIs are not enforced.
+     * 
+     * @return
+     * @since 0.1.4
+     */
+    public ScheduledExecutorService getTimeoutScheduler() {
+        return timeoutScheduler;
+    }
+
+    public ApiRegistry setTimeoutScheduler(ScheduledExecutorService timeoutScheduler) {
+        this.timeoutScheduler = timeoutScheduler;
+        return this;
+    }
+
+    /**
+     * Cache of results of APIs registered with
+     * {@link ApiOptions#getCacheTtlMillisecs()}; if not set, results are not
+     * cached.
+     * 
+     * @return
+     * @since 0.1.4
+     */
+    public ApiResultCache getResultCache() {
+        return resultCache;
+    }
+
+    public ApiRegistry setResultCache(ApiResultCache resultCache) {
+        this.resultCache = resultCache;
+        return this;
+    }
+
+    /**
+     * Registry to record APIs' metrics to (see {@link ApiMetrics}); if not
+     * set, calls are not measured.
+     * 
+     * @return
+     * @since 0.1.4
+     */
+    public MetricsRegistry getMetricsRegistry() {
+        return metricsRegistry;
+    }
+
+    public ApiRegistry setMetricsRegistry(MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+        return this;
+    }
+
+    /**
+     * Metrics of all APIs registered so far, sorted by module and API names.
+     * 
+     * @return
+     * @since 0.1.4
+     */
+    public List<ApiMetrics> getApiMetrics() {
+        List<ApiMetrics> result = new ArrayList<ApiMetrics>();
+        for (String key : new TreeSet<String>(apiMetrics.keySet())) {
+            result.add(apiMetrics.get(key));
+        }
+        return result;
+    }
+
+    private static String configKey(String moduleName, String apiName) {
+        return apiName != null ? moduleName + "/" + apiName : moduleName;
+    }
+
+    /**
+     * Limits the number of concurrent calls of a module's APIs (all together),
+     * or of a single API. Calls exceeding the limit are rejected immediately
+     * with {@link IApi#STATUS_SERVICE_UNAVAILABLE}.
+     * 
+     * <p>
+     * A module's limit takes effect immediately, also for its already
+     * registered APIs (calls in flight are not counted against a changed
+     * limit). A single API's limit takes effect when the API is registered
+     * (again), and overrides {@link ApiOptions#getMaxConcurrency()}.
+     * </p>
+     * 
+     * @param moduleName
+     * @param apiName
+     *            {@code null} to limit the whole module
+     * @param maxConcurrency
+     *            {@link ApiOptions#UNLIMITED} to remove the limit
+     * @return
+     * @since 0.1.4
+     */
+    synchronized public ApiRegistry setConcurrencyLimit(String moduleName, String apiName,
+            int maxConcurrency) {
+        String key = configKey(moduleName, apiName);
+        if (maxConcurrency > 0) {
+            concurrencyLimits.put(key, maxConcurrency);
+        } else {
+            concurrencyLimits.remove(key);
+        }
+        if (apiName == null) {
+            updateModuleBulkhead(moduleName);
+        }
+        return this;
+    }
+
+    /**
+     * Gets the bulkhead of a module, a new one is created if the module's
+     * limit has changed since the current one was created.
+     * 
+     * @param module
+     * @return {@code null} if the module is not limited
+     */
+    private ModuleBulkhead moduleBulkhead(String module) {
+        Integer limit = concurrencyLimits.get(module);
+        if (limit == null) {
+            moduleBulkheads.remove(module);
+            return null;
+        }
+        ModuleBulkhead bulkhead = moduleBulkheads.get(module);
+        if (bulkhead == null || bulkhead.limit != limit.intValue()) {
+            bulkhead = new ModuleBulkhead(limit);
+            moduleBulkheads.put(module, bulkhead);
+        }
+        return bulkhead;
+    }
+
+    /**
+     * Re-publishes the handles of a module's registered APIs with the
+     * module's current bulkhead, if it has changed. Replaced handles become
+     * invalid; calls in flight release their permits to the bulkhead they
+     * were acquired from.
+     * 
+     * @param module
+     */
+    private void updateModuleBulkhead(String module) {
+        Semaphore bulkhead = moduleBulkhead(module);
+        RoutingTable current = routingTable;
+        Map<String, ApiHandle> moduleApis = current.modules.get(module);
+        if (moduleApis == null) {
+            return;
+        }
+        RoutingTable updated = current;
+        List<ApiHandle> replaced = new ArrayList<ApiHandle>();
+        for (ApiHandle handle : moduleApis.values()) {
+            if (handle.moduleBulkhead != bulkhead) {
+                updated = updated.withApi(handle.withModuleBulkhead(bulkhead));
+                replaced.add(handle);
+            }
+        }
+        routingTable = updated;
+        for (ApiHandle handle : replaced) {
+            handle.valid = false;
+        }
+    }
+
+    /**
+     * Sets the timeout of a module's APIs (each), or of a single API.
+     * 
+     * <p>
+     * Takes effect for APIs registered afterwards. A timeout set for a single
+     * API overrides {@link ApiOptions#getTimeoutMillisecs()}, which overrides
+     * the module's timeout.
+     * </p>
+     * 
+     * @param moduleName
+     * @param apiName
+     *            {@code null} to set the default timeout of the module's APIs
+     * @param timeoutMillisecs
+     *            {@link ApiOptions#UNLIMITED} to remove the timeout
+     * @return
+     * @since 0.1.4
+     */
+    public ApiRegistry setTimeout(String moduleName, String apiName, long timeoutMillisecs) {
+        String key = configKey(moduleName, apiName);
+        if (timeoutMillisecs > 0) {
+            timeouts.put(key, timeoutMillisecs);
+        } else {
+            timeouts.remove(key);
+        }
+        return this;
+    }
 
     /**
      * Init method.
@@ -34,12 +316,36 @@ public class ApiRegistry implements IApiRegistry {
      * @return
      */
     protected IApi lookup(String moduleName, String apiName) {
-        Map<String, IApi> moduleApis = moduleName != null ? registeredApis.get(moduleName) : null;
+        ApiHandle handle = resolveHandle(moduleName, apiName);
+        return handle != null ? handle.api : null;
+    }
+
+    private static ApiResult notFound(String moduleName, String apiName) {
+        return new ApiResult(IApi.STATUS_NOT_FOUND, "Api [" + moduleName + "/" + apiName
+                + "] not found!");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IApiHandle resolve(String moduleName, String apiName) {
+        ApiHandle handle = resolveHandle(moduleName, apiName);
+        if (handle != null && WILDCARD_API.equals(handle.apiName)
+                && !WILDCARD_API.equals(apiName)) {
+            return new WildcardApiHandle(handle, apiName);
+        }
+        return handle;
+    }
+
+    private ApiHandle resolveHandle(String moduleName, String apiName) {
+        Map<String, ApiHandle> moduleApis = moduleName != null ? routingTable.modules
+                .get(moduleName) : null;
         if (moduleApis == null) {
             return null;
         }
-        IApi api = apiName != null ? moduleApis.get(apiName) : null;
-        return api != null ? api : moduleApis.get(WILDCARD_API);
+        ApiHandle handle = apiName != null ? moduleApis.get(apiName) : null;
+        return handle != null ? handle : moduleApis.get(WILDCARD_API);
     }
 
     /**
@@ -47,11 +353,361 @@ public class ApiRegistry implements IApiRegistry {
      */
     @Override
     public ApiResult callApi(String moduleName, String apiName, String authKey, Object params) {
-        IApi api = lookup(moduleName, apiName);
-        if (api == null) {
-            return new ApiResult(IApi.STATUS_NOT_FOUND, "Api [" + moduleName + "/" + apiName
-                    + "] not found!");
+        return callApi(moduleName, apiName, authKey, params, 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ApiResult callApi(String moduleName, String apiName, String authKey, Object params,
+            long timeoutMillisecs) {
+        ApiHandle handle = resolveHandle(moduleName, apiName);
+        return handle != null ? callApi(handle, authKey, params, timeoutMillisecs) : notFound(
+                moduleName, apiName);
+    }
+
+    /**
+     * Calls a resolved API.
+     * 
+     * @param handle
+     * @param authKey
+     * @param params
+     * @param timeoutMillisecs
+     *            caller's timeout, {@code 0} for none
+     * @return
+     * @since 0.1.4
+     */
+    protected ApiResult callApi(ApiHandle handle, String authKey, Object params,
+            long timeoutMillisecs) {
+        ApiMetrics metrics = handle.metrics;
+        if (metrics == null) {
+            return dispatch(handle, authKey, params, timeoutMillisecs);
+        }
+        long start = System.nanoTime();
+        metrics.callStarted();
+        ApiResult result = null;
+        try {
+            result = dispatch(handle, authKey, params, timeoutMillisecs);
+            return result;
+        } finally {
+            metrics.callEnded(result, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Calls a resolved API: from cache, by joining an identical in-flight
+     * call, or by invoking it.
+     */
+    private ApiResult dispatch(ApiHandle handle, String authKey, Object params,
+            long timeoutMillisecs) {
+        String callKey = callKey(handle, params);
+        boolean cacheable = callKey != null && isCached(handle);
+        if (cacheable) {
+            ApiResult cached = resultCache.get(callKey);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        Flight flight = null;
+        if (callKey != null && handle.idempotent) {
+            flight = new Flight(effectiveTimeout(handle, timeoutMillisecs));
+            Flight leader = inFlightCalls.putIfAbsent(callKey, flight);
+            if (leader != null) {
+                // an identical call is in flight: share its result
+                return await(handle, leader, authKey, params, timeoutMillisecs);
+            }
+        }
+        ApiResult result = null;
+        try {
+            result = invoke(handle, authKey, params, timeoutMillisecs);
+            if (cacheable && result.getStatus() == IApi.STATUS_OK) {
+                result = resultCache.put(callKey, result, handle.cacheTtlMillisecs);
+            }
+            return result;
+        } finally {
+            if (flight != null) {
+                land(callKey, flight, result);
+            }
+        }
+    }
+
+    private boolean isCached(ApiHandle handle) {
+        return handle.cacheTtlMillisecs > 0 && resultCache != null;
+    }
+
+    /**
+     * Builds the key identifying a call (API and canonicalized params), used
+     * to cache its result and to coalesce identical calls.
+     * 
+     * @param handle
+     * @param params
+     * @return {@code null} if the call is neither cached nor coalesced
+     */
+    private String callKey(ApiHandle handle, Object params) {
+        if (!handle.idempotent && !isCached(handle)) {
+            return null;
+        }
+        try {
+            return handle.cacheKeyPrefix + JsonUtils.toCanonicalJsonString(params);
+        } catch (RuntimeException e) {
+            // params can not be canonicalized: neither cache nor coalesce
+            return null;
+        }
+    }
+
+    /**
+     * Waits for the result of an identical in-flight call, at most the
+     * effective timeout of this call. If the in-flight call was rejected, or
+     * timed out before this call would have, the API is called again within
+     * this call's remaining time.
+     */
+    private ApiResult await(ApiHandle handle, Flight leader, String authKey, Object params,
+            long timeoutMillisecs) {
+        long timeout = effectiveTimeout(handle, timeoutMillisecs);
+        long start = System.nanoTime();
+        ApiResult result;
+        try {
+            result = timeout > 0 ? leader.get(timeout, TimeUnit.MILLISECONDS) : leader.get();
+        } catch (TimeoutException e) {
+            return timedOut(handle, timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new ApiResult(IApi.STATUS_SERVER_ERROR, "Interrupted!");
+        } catch (ExecutionException e) {
+            return new ApiResult(IApi.STATUS_SERVER_ERROR, e.getCause().getMessage());
+        }
+        if (!leader.isOutlastedBy(result, timeout, start)) {
+            return result;
+        }
+        long remaining = remainingMillisecs(timeout, start);
+        return remaining >= 0 ? invoke(handle, authKey, params, remaining) : timedOut(handle,
+                timeout);
+    }
+
+    /**
+     * Completes an in-flight call, handing its result over to the calls
+     * waiting for it. The call is removed first, so that calls arriving
+     * afterwards either hit the cache or start a new flight.
+     */
+    private void land(String callKey, Flight flight, ApiResult result) {
+        inFlightCalls.remove(callKey, flight);
+        flight.complete(result != null ? result : new ApiResult(IApi.STATUS_SERVER_ERROR,
+                "Call failed!"));
+    }
+
+    /**
+     * A future completed with the result of an identical in-flight call, or
+     * with status 504 once this call's effective timeout elapses (if
+     * {@link #getTimeoutScheduler()} is set). As in
+     * {@link #await(ApiHandle, Flight, String, Object, long)}, the API is
+     * called again if the in-flight call was rejected or timed out earlier.
+     */
+    private ApiFuture<ApiResult> follow(final ApiHandle handle, final Flight leader,
+            final Object params, long timeoutMillisecs) {
+        final long timeout = effectiveTimeout(handle, timeoutMillisecs);
+        final long start = System.nanoTime();
+        final ApiFuture<ApiResult> result = new ApiFuture<ApiResult>();
+        ScheduledFuture<?> timer = null;
+        if (timeout > 0 && timeoutScheduler != null) {
+            try {
+                timer = timeoutScheduler.schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        result.complete(timedOut(handle, timeout));
+                    }
+                }, timeout, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                timer = null;
+            }
+        }
+        final ScheduledFuture<?> scheduledTimeout = timer;
+        final IApiCallback<ApiResult> completion = new IApiCallback<ApiResult>() {
+            @Override
+            public void onComplete(ApiResult apiResult) {
+                if (scheduledTimeout != null) {
+                    scheduledTimeout.cancel(false);
+                }
+                result.complete(apiResult);
+            }
+
+            @Override
+            public void onError(Exception e) {
+                onComplete(new ApiResult(IApi.STATUS_SERVER_ERROR, e.getMessage()));
+            }
+        };
+        leader.addCallback(new IApiCallback<ApiResult>() {
+            @Override
+            public void onComplete(ApiResult apiResult) {
+                if (result.isDone() || !leader.isOutlastedBy(apiResult, timeout, start)) {
+                    completion.onComplete(apiResult);
+                    return;
+                }
+                long remaining = remainingMillisecs(timeout, start);
+                if (remaining < 0) {
+                    completion.onComplete(timedOut(handle, timeout));
+                    return;
+                }
+                invokeAsync(handle, null, params, remaining).addCallback(completion);
+            }
+
+            @Override
+            public void onError(Exception e) {
+                completion.onError(e);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Time left of a timeout.
+     * 
+     * @param timeoutMillisecs
+     * @param startNanos
+     * @return {@code 0} if there is no timeout, {@code -1} if the timeout has
+     *         elapsed
+     */
+    private static long remainingMillisecs(long timeoutMillisecs, long startNanos) {
+        if (timeoutMillisecs <= 0) {
+            return 0;
+        }
+        long remaining = timeoutMillisecs
+                - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        return remaining > 0 ? remaining : -1;
+    }
+
+    /**
+     * An in-flight call of an idempotent API, shared by identical calls;
+     * remembers its effective timeout.
+     */
+    private static class Flight extends ApiFuture<ApiResult> {
+        private final long timeoutMillisecs, startNanos;
+
+        Flight(long timeoutMillisecs) {
+            this.timeoutMillisecs = timeoutMillisecs;
+            this.startNanos = System.nanoTime();
+        }
+
+        /**
+         * Should a call that shared this flight's result call the API itself
+         * instead? Yes if the flight was rejected (busy), or timed out before
+         * the call's own timeout would have.
+         * 
+         * @param result
+         *            result of this flight
+         * @param timeoutMillisecs
+         *            effective timeout of the call, {@code 0} for none
+         * @param startNanos
+         *            when the call started
+         * @return
+         */
+        boolean isOutlastedBy(ApiResult result, long timeoutMillisecs, long startNanos) {
+            int status = result.getStatus();
+            if (status == IApi.STATUS_SERVICE_UNAVAILABLE) {
+                return true;
+            }
+            if (status != IApi.STATUS_GATEWAY_TIMEOUT || this.timeoutMillisecs <= 0) {
+                return false;
+            }
+            if (timeoutMillisecs <= 0) {
+                return true;
+            }
+            long end = this.startNanos + TimeUnit.MILLISECONDS.toNanos(this.timeoutMillisecs);
+            return startNanos + TimeUnit.MILLISECONDS.toNanos(timeoutMillisecs) - end > 0;
+        }
+    }
+
+    /**
+     * Calls a resolved API, honoring its bulkheads and timeout.
+     */
+    private ApiResult invoke(final ApiHandle handle, String authKey, final Object params,
+            long timeoutMillisecs) {
+        long timeout = effectiveTimeout(handle, timeoutMillisecs);
+        if (!handle.tryAcquire()) {
+            return busy(handle);
+        }
+        if (timeout <= 0 || timeoutExecutor == null) {
+            try {
+                return doCall(handle.api, params);
+            } finally {
+                handle.release();
+            }
+        }
+
+        // the permit is released by whoever "starts" the call: the call
+        // itself, or the caller if the call is cancelled before running
+        final AtomicBoolean started = new AtomicBoolean(false);
+        Future<ApiResult> future;
+        try {
+            future = timeoutExecutor.submit(new Callable<ApiResult>() {
+                @Override
+                public ApiResult call() {
+                    if (!started.compareAndSet(false, true)) {
+                        return null;
+                    }
+                    try {
+                        return doCall(handle.api, params);
+                    } finally {
+                        handle.release();
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            handle.release();
+            return new ApiResult(IApi.STATUS_SERVICE_UNAVAILABLE, "Server is busy!");
+        }
+        try {
+            return future.get(timeout, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            return timedOut(handle, timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new ApiResult(IApi.STATUS_SERVER_ERROR, "Interrupted!");
+        } catch (ExecutionException e) {
+            return new ApiResult(IApi.STATUS_SERVER_ERROR, e.getCause().getMessage());
+        } finally {
+            if (!future.isDone()) {
+                future.cancel(true);
+                if (started.compareAndSet(false, true)) {
+                    handle.release();
+                }
+            }
+        }
+    }
+
+    /**
+     * The shorter of the API's timeout and the caller's timeout.
+     * 
+     * @param handle
+     * @param timeoutMillisecs
+     * @return {@code 0} if none
+     */
+    private static long effectiveTimeout(ApiHandle handle, long timeoutMillisecs) {
+        if (timeoutMillisecs <= 0) {
+            return handle.timeoutMillisecs;
         }
+        return handle.timeoutMillisecs > 0 ? Math.min(handle.timeoutMillisecs, timeoutMillisecs)
+                : timeoutMillisecs;
+    }
+
+    private static ApiResult busy(ApiHandle handle) {
+        return new ApiResult(IApi.STATUS_SERVICE_UNAVAILABLE, "Api [" + handle.moduleName + "/"
+                + handle.apiName + "] is busy!");
+    }
+
+    private static ApiResult timedOut(ApiHandle handle, long timeoutMillisecs) {
+        return new ApiResult(IApi.STATUS_GATEWAY_TIMEOUT, "Api [" + handle.moduleName + "/"
+                + handle.apiName + "] timed out after " + timeoutMillisecs + "ms!");
+    }
+
+    /**
+     * Calls an API synchronously.
+     * 
+     * @param api
+     * @param params
+     * @return
+     */
+    protected ApiResult doCall(IApi api, Object params) {
         ApiParams apiParams = new ApiParams(params);
         try {
             Object output = api.call(apiParams);
@@ -65,20 +721,745 @@ public class ApiRegistry implements IApiRegistry {
      * {@inheritDoc}
      */
     @Override
-    synchronized public void register(String module, String apiName, IApi api) {
-        Map<String, IApi> moduleApis = registeredApis.get(module);
-        if (moduleApis == null) {
-            moduleApis = new ConcurrentHashMap<String, IApi>();
-            registeredApis.put(module, moduleApis);
+    public ApiFuture<ApiResult> callApiAsync(String moduleName, String apiName, String authKey,
+            Object params) {
+        return callApiAsync(moduleName, apiName, authKey, params, 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ApiFuture<ApiResult> callApiAsync(String moduleName, String apiName, String authKey,
+            Object params, long timeoutMillisecs) {
+        ApiHandle handle = resolveHandle(moduleName, apiName);
+        return handle != null ? callApiAsync(handle, authKey, params, timeoutMillisecs)
+                : ApiFuture.completed(notFound(moduleName, apiName));
+    }
+
+    /**
+     * Calls a resolved API asynchronously.
+     * 
+     * @param handle
+     * @param authKey
+     * @param params
+     * @param timeoutMillisecs
+     *            caller's timeout, {@code 0} for none
+     * @return
+     * @since 0.1.4
+     */
+    protected ApiFuture<ApiResult> callApiAsync(final ApiHandle handle, String authKey,
+            Object params, long timeoutMillisecs) {
+        if (!(handle.api instanceof IAsyncApi)) {
+            return ApiFuture.completed(callApi(handle, authKey, params, timeoutMillisecs));
+        }
+        final ApiMetrics metrics = handle.metrics;
+        if (metrics == null) {
+            return dispatchAsync(handle, authKey, params, timeoutMillisecs);
+        }
+        final long start = System.nanoTime();
+        metrics.callStarted();
+        ApiFuture<ApiResult> result;
+        try {
+            result = dispatchAsync(handle, authKey, params, timeoutMillisecs);
+        } catch (RuntimeException e) {
+            metrics.callEnded(null, System.nanoTime() - start);
+            throw e;
+        }
+        return result.addCallback(new IApiCallback<ApiResult>() {
+            @Override
+            public void onComplete(ApiResult apiResult) {
+                metrics.callEnded(apiResult, System.nanoTime() - start);
+            }
+
+            @Override
+            public void onError(Exception e) {
+                metrics.callEnded(null, System.nanoTime() - start);
+            }
+        });
+    }
+
+    /**
+     * Calls a resolved async API: from cache, by joining an identical
+     * in-flight call, or by invoking it.
+     */
+    private ApiFuture<ApiResult> dispatchAsync(ApiHandle handle, String authKey, Object params,
+            long timeoutMillisecs) {
+        final String callKey = callKey(handle, params);
+        boolean cacheable = callKey != null && isCached(handle);
+        if (cacheable) {
+            ApiResult cached = resultCache.get(callKey);
+            if (cached != null) {
+                return ApiFuture.completed(cached);
+            }
+        }
+        if (callKey == null || !handle.idempotent) {
+            return invokeAsync(handle, cacheable ? callKey : null, params, timeoutMillisecs);
+        }
+
+        final Flight flight = new Flight(effectiveTimeout(handle, timeoutMillisecs));
+        Flight leader = inFlightCalls.putIfAbsent(callKey, flight);
+        if (leader != null) {
+            // an identical call is in flight: share its result
+            return follow(handle, leader, params, timeoutMillisecs);
+        }
+        ApiFuture<ApiResult> result = invokeAsync(handle, cacheable ? callKey : null, params,
+                timeoutMillisecs);
+        result.addCallback(new IApiCallback<ApiResult>() {
+            @Override
+            public void onComplete(ApiResult apiResult) {
+                land(callKey, flight, apiResult);
+            }
+
+            @Override
+            public void onError(Exception e) {
+                land(callKey, flight, null);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Calls a resolved async API, honoring its bulkheads and timeout.
+     * 
+     * @param handle
+     * @param cacheKey
+     *            key to cache the result, {@code null} to not cache it
+     * @param params
+     * @param timeoutMillisecs
+     * @return
+     */
+    private ApiFuture<ApiResult> invokeAsync(final ApiHandle handle, final String cacheKey,
+            Object params, long timeoutMillisecs) {
+        IApi api = handle.api;
+        if (!handle.tryAcquire()) {
+            return ApiFuture.completed(busy(handle));
+        }
+        final ApiFuture<ApiResult> result = new ApiFuture<ApiResult>();
+        ApiParams apiParams = new ApiParams(params);
+        final ApiFuture<Object> apiFuture;
+        try {
+            apiFuture = ((IAsyncApi) api).callAsync(apiParams);
+        } catch (Exception e) {
+            handle.release();
+            result.complete(new ApiResult(IApi.STATUS_SERVER_ERROR, e.getMessage()));
+            return result;
+        }
+
+        final long timeout = effectiveTimeout(handle, timeoutMillisecs);
+        ScheduledFuture<?> timer = null;
+        if (timeout > 0 && timeoutScheduler != null) {
+            try {
+                timer = timeoutScheduler.schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (result.complete(timedOut(handle, timeout))) {
+                            apiFuture.cancel(true);
+                        }
+                    }
+                }, timeout, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                timer = null;
+            }
+        }
+        final ScheduledFuture<?> scheduledTimeout = timer;
+        apiFuture.addCallback(new IApiCallback<Object>() {
+            @Override
+            public void onComplete(Object output) {
+                done(new ApiResult(IApi.STATUS_OK, output));
+            }
+
+            @Override
+            public void onError(Exception e) {
+                done(new ApiResult(IApi.STATUS_SERVER_ERROR, e.getMessage()));
+            }
+
+            private void done(ApiResult apiResult) {
+                handle.release();
+                if (scheduledTimeout != null) {
+                    scheduledTimeout.cancel(false);
+                }
+                if (cacheKey != null && apiResult.getStatus() == IApi.STATUS_OK) {
+                    apiResult = resultCache.put(cacheKey, apiResult, handle.cacheTtlMillisecs);
+                }
+                result.complete(apiResult);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * Waits at most {@link #getBatchTimeout()} (if set): calls still running
+     * by then are answered with status 504.
+     * </p>
+     */
+    @Override
+    public List<ApiResult> callApis(String authKey, List<ApiCall> calls) {
+        Batch batch = startBatch(authKey, calls);
+        long timeout = batch.timeoutMillisecs;
+        try {
+            if (timeout > 0) {
+                try {
+                    return batch.result.get(timeout, TimeUnit.MILLISECONDS);
+                } catch (TimeoutException e) {
+                    batch.expire();
+                }
+            }
+            return batch.result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
         }
-        moduleApis.put(apiName, api);
     }
 
     /**
      * {@inheritDoc}
+     * 
+     * <p>
+     * The future completes at most {@link #getBatchTimeout()} (if set) after
+     * the call, given that {@link #getTimeoutScheduler()} is set: calls still
+     * running by then are answered with status 504.
+     * </p>
      */
     @Override
-    public void unregister(String module) {
-        registeredApis.remove(module);
+    public ApiFuture<List<ApiResult>> callApisAsync(String authKey, List<ApiCall> calls) {
+        final Batch batch = startBatch(authKey, calls);
+        if (!batch.result.isDone() && batch.timeoutMillisecs > 0 && timeoutScheduler != null) {
+            try {
+                final ScheduledFuture<?> timer = timeoutScheduler.schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        batch.expire();
+                    }
+                }, batch.timeoutMillisecs, TimeUnit.MILLISECONDS);
+                batch.result.addCallback(new IApiCallback<List<ApiResult>>() {
+                    @Override
+                    public void onComplete(List<ApiResult> results) {
+                        timer.cancel(false);
+                    }
+
+                    @Override
+                    public void onError(Exception e) {
+                        timer.cancel(false);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // not timed, the batch completes when its slowest call does
+            }
+        }
+        return batch.result;
+    }
+
+    /**
+     * Starts the calls of a batch.
+     * 
+     * @param authKey
+     * @param calls
+     * @return
+     */
+    private Batch startBatch(String authKey, List<ApiCall> calls) {
+        int numCalls = calls != null ? calls.size() : 0;
+        Batch batch = new Batch(numCalls, batchTimeoutMillisecs);
+        for (int i = 0; i < numCalls; i++) {
+            batchCall(batch, i, authKey, calls.get(i));
+        }
+        return batch;
+    }
+
+    /**
+     * Calls an API of a batch: async APIs are called directly, others are
+     * called in the batch executor (if any). Async APIs are called with the
+     * batch's timeout as caller's timeout, so that they are cancelled when
+     * the batch times out.
+     * 
+     * @param batch
+     * @param index
+     * @param authKey
+     * @param call
+     */
+    private void batchCall(final Batch batch, final int index, final String authKey,
+            final ApiCall call) {
+        if (call == null) {
+            batch.complete(index, new ApiResult(IApi.STATUS_BAD_REQUEST, "Invalid api call!"));
+            return;
+        }
+        final ApiHandle handle = resolveHandle(call.getModuleName(), call.getApiName());
+        if (handle == null) {
+            batch.complete(index, notFound(call.getModuleName(), call.getApiName()));
+            return;
+        }
+        final long timeout = batch.timeoutMillisecs;
+        if (handle.api instanceof IAsyncApi || batchExecutor == null) {
+            callApiAsync(handle, authKey, call.getParams(), timeout).addCallback(
+                    new IApiCallback<ApiResult>() {
+                        @Override
+                        public void onComplete(ApiResult apiResult) {
+                            batch.complete(index, apiResult);
+                        }
+
+                        @Override
+                        public void onError(Exception e) {
+                            batch.complete(index, new ApiResult(IApi.STATUS_SERVER_ERROR, e
+                                    .getMessage()));
+                        }
+                    });
+            return;
+        }
+        try {
+            batchExecutor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    if (batch.result.isDone()) {
+                        // batch timed out while this call was queued
+                        return;
+                    }
+                    batch.complete(index, callApi(handle, authKey, call.getParams(), 0));
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            batch.complete(index,
+                    new ApiResult(IApi.STATUS_SERVICE_UNAVAILABLE, "Server is busy!"));
+        }
+    }
+
+    /**
+     * Results of a batch of calls, completed once all calls have completed or
+     * the batch has timed out.
+     */
+    private static class Batch {
+        final ApiFuture<List<ApiResult>> result = new ApiFuture<List<ApiResult>>();
+        final long timeoutMillisecs;
+        private final ApiResult[] results;
+        private int remaining;
+        private boolean done;
+
+        Batch(int numCalls, long timeoutMillisecs) {
+            this.timeoutMillisecs = timeoutMillisecs;
+            results = new ApiResult[numCalls];
+            remaining = numCalls;
+            if (numCalls == 0) {
+                done = true;
+                result.complete((List<ApiResult>) new ArrayList<ApiResult>());
+            }
+        }
+
+        void complete(int index, ApiResult apiResult) {
+            List<ApiResult> list;
+            synchronized (this) {
+                if (done || results[index] != null) {
+                    return;
+                }
+                results[index] = apiResult;
+                if (--remaining > 0) {
+                    return;
+                }
+                done = true;
+                list = Arrays.asList(results);
+            }
+            result.complete(list);
+        }
+
+        /**
+         * Answers calls still running with status 504 and completes the
+         * batch.
+         */
+        void expire() {
+            List<ApiResult> list;
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                for (int i = 0; i < results.length; i++) {
+                    if (results[i] == null) {
+                        results[i] = new ApiResult(IApi.STATUS_GATEWAY_TIMEOUT,
+                                "Batch timed out after " + timeoutMillisecs + "ms!");
+                    }
+                }
+                done = true;
+                list = Arrays.asList(results.clone());
+            }
+            result.complete(list);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void register(String module, String apiName, IApi api) {
+        register(module, apiName, api, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    synchronized public void register(String module, String apiName, IApi api,
+            ApiOptions options) {
+        Semaphore moduleBulkhead = moduleBulkhead(module);
+        Integer apiLimit = concurrencyLimits.get(module + "/" + apiName);
+        if (apiLimit == null && options != null && options.getMaxConcurrency() > 0) {
+            apiLimit = options.getMaxConcurrency();
+        }
+        Semaphore apiBulkhead = apiLimit != null ? new Semaphore(apiLimit) : null;
+        Long timeout = timeouts.get(module + "/" + apiName);
+        if (timeout == null && options != null && options.getTimeoutMillisecs() > 0) {
+            timeout = options.getTimeoutMillisecs();
+        }
+        if (timeout == null) {
+            timeout = timeouts.get(module);
+        }
+
+        RoutingTable current = routingTable;
+        ApiHandle replaced = current.get(module, apiName);
+        /*
+         * a new API takes over calls the module's wildcard API used to get:
+         * re-publish the wildcard handle, so that handles resolved to it look
+         * the API up again
+         */
+        ApiHandle wildcard = replaced == null && !WILDCARD_API.equals(apiName) ? current.get(
+                module, WILDCARD_API) : null;
+        long cacheTtl = options != null ? options.getCacheTtlMillisecs() : 0;
+        boolean idempotent = options != null && options.isIdempotent();
+        boolean rawJsonInput = options != null && options.isRawJsonInput();
+        ApiMetrics metrics = null;
+        if (metricsRegistry != null) {
+            String key = configKey(module, apiName);
+            metrics = apiMetrics.get(key);
+            if (metrics == null) {
+                metrics = new ApiMetrics(metricsRegistry, module, apiName);
+                apiMetrics.put(key, metrics);
+            }
+        }
+        RoutingTable updated = current.withApi(new ApiHandle(this, module, apiName, api,
+                moduleBulkhead, apiBulkhead, timeout != null ? timeout.longValue() : 0, cacheTtl,
+                idempotent, rawJsonInput, metrics));
+        if (wildcard != null) {
+            updated = updated.withApi(wildcard.withModuleBulkhead(wildcard.moduleBulkhead));
+        }
+        routingTable = updated;
+        if (wildcard != null) {
+            wildcard.valid = false;
+        }
+        if (replaced != null) {
+            replaced.valid = false;
+            if (resultCache != null && replaced.cacheTtlMillisecs > 0) {
+                resultCache.removeAll(replaced.cacheKeyPrefix);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    synchronized public void unregister(String module) {
+        RoutingTable current = routingTable;
+        Map<String, ApiHandle> moduleApis = current.modules.get(module);
+        moduleBulkheads.remove(module);
+        if (moduleApis != null) {
+            routingTable = current.withoutModule(module);
+            for (ApiHandle handle : moduleApis.values()) {
+                handle.valid = false;
+                if (resultCache != null && handle.cacheTtlMillisecs > 0) {
+                    resultCache.removeAll(handle.cacheKeyPrefix);
+                }
+            }
+        }
+    }
+
+    /**
+     * Bulkhead shared by all APIs of a module, remembers the limit it was
+     * created with.
+     */
+    private static class ModuleBulkhead extends Semaphore {
+        private static final long serialVersionUID = 1L;
+
+        final int limit;
+
+        ModuleBulkhead(int limit) {
+            super(limit);
+            this.limit = limit;
+        }
+    }
+
+    /**
+     * Immutable snapshot of registered APIs: module name -> (api name ->
+     * handle). Never modified once published, a changed copy is published
+     * instead.
+     */
+    private static class RoutingTable {
+        final static RoutingTable EMPTY = new RoutingTable(
+                Collections.<String, Map<String, ApiHandle>> emptyMap());
+
+        final Map<String, Map<String, ApiHandle>> modules;
+
+        RoutingTable(Map<String, Map<String, ApiHandle>> modules) {
+            this.modules = modules;
+        }
+
+        ApiHandle get(String module, String apiName) {
+            Map<String, ApiHandle> moduleApis = modules.get(module);
+            return moduleApis != null ? moduleApis.get(apiName) : null;
+        }
+
+        RoutingTable withApi(ApiHandle handle) {
+            Map<String, Map<String, ApiHandle>> newModules = new HashMap<String, Map<String, ApiHandle>>(
+                    modules);
+            Map<String, ApiHandle> oldApis = modules.get(handle.moduleName);
+            Map<String, ApiHandle> newApis = oldApis != null ? new HashMap<String, ApiHandle>(
+                    oldApis) : new HashMap<String, ApiHandle>();
+            newApis.put(handle.apiName, handle);
+            newModules.put(handle.moduleName, Collections.unmodifiableMap(newApis));
+            return new RoutingTable(Collections.unmodifiableMap(newModules));
+        }
+
+        RoutingTable withoutModule(String module) {
+            Map<String, Map<String, ApiHandle>> newModules = new HashMap<String, Map<String, ApiHandle>>(
+                    modules);
+            newModules.remove(module);
+            return new RoutingTable(Collections.unmodifiableMap(newModules));
+        }
+    }
+
+    /**
+     * {@link IApiHandle} implementation: the resolved {@link IApi}, called
+     * via the registry it was resolved from.
+     * 
+     * @since 0.1.4
+     */
+    protected static class ApiHandle implements IApiHandle {
+        private final ApiRegistry registry;
+        private final String moduleName, apiName;
+        private final IApi api;
+        private final Semaphore moduleBulkhead, apiBulkhead;
+        private final long timeoutMillisecs, cacheTtlMillisecs;
+        private final boolean idempotent, rawJsonInput;
+        private final ApiMetrics metrics;
+        private final String cacheKeyPrefix;
+        private volatile boolean valid = true;
+
+        ApiHandle(ApiRegistry registry, String moduleName, String apiName, IApi api,
+                Semaphore moduleBulkhead, Semaphore apiBulkhead, long timeoutMillisecs,
+                long cacheTtlMillisecs, boolean idempotent, boolean rawJsonInput,
+                ApiMetrics metrics) {
+            this.registry = registry;
+            this.moduleName = moduleName;
+            this.apiName = apiName;
+            this.api = api;
+            this.moduleBulkhead = moduleBulkhead;
+            this.apiBulkhead = apiBulkhead;
+            this.timeoutMillisecs = timeoutMillisecs;
+            this.cacheTtlMillisecs = cacheTtlMillisecs;
+            this.idempotent = idempotent;
+            this.rawJsonInput = rawJsonInput;
+            this.metrics = metrics;
+            this.cacheKeyPrefix = moduleName + "/" + apiName + "?";
+        }
+
+        /**
+         * Copy of this handle using another module bulkhead.
+         * 
+         * @param moduleBulkhead
+         * @return
+         */
+        ApiHandle withModuleBulkhead(Semaphore moduleBulkhead) {
+            return new ApiHandle(registry, moduleName, apiName, api, moduleBulkhead, apiBulkhead,
+                    timeoutMillisecs, cacheTtlMillisecs, idempotent, rawJsonInput, metrics);
+        }
+
+        /**
+         * Takes a permit from the module's and the API's bulkheads (if any),
+         * never blocks.
+         * 
+         * @return {@code false} if a limit has been reached
+         */
+        boolean tryAcquire() {
+            if (moduleBulkhead != null && !moduleBulkhead.tryAcquire()) {
+                return false;
+            }
+            if (apiBulkhead != null && !apiBulkhead.tryAcquire()) {
+                if (moduleBulkhead != null) {
+                    moduleBulkhead.release();
+                }
+                return false;
+            }
+            return true;
+        }
+
+        void release() {
+            if (apiBulkhead != null) {
+                apiBulkhead.release();
+            }
+            if (moduleBulkhead != null) {
+                moduleBulkhead.release();
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getModuleName() {
+            return moduleName;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getApiName() {
+            return apiName;
+        }
+
+        /**
+         * The resolved API.
+         * 
+         * @return
+         */
+        public IApi getApi() {
+            return api;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isValid() {
+            return valid;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isRawJsonInput() {
+            return rawJsonInput;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public ApiResult call(String authKey, Object params) {
+            return call(authKey, params, 0);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public ApiResult call(String authKey, Object params, long timeoutMillisecs) {
+            return valid ? registry.callApi(this, authKey, params, timeoutMillisecs) : registry
+                    .callApi(moduleName, apiName, authKey, params, timeoutMillisecs);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public ApiFuture<ApiResult> callAsync(String authKey, Object params) {
+            return callAsync(authKey, params, 0);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public ApiFuture<ApiResult> callAsync(String authKey, Object params, long timeoutMillisecs) {
+            return valid ? registry.callApiAsync(this, authKey, params, timeoutMillisecs)
+                    : registry.callApiAsync(moduleName, apiName, authKey, params,
+                            timeoutMillisecs);
+        }
+    }
+
+    /**
+     * Handle resolved to a module's wildcard API: remembers the requested API
+     * name, which is looked up again once the wildcard handle is invalid (e.g.
+     * an API with that name has been registered since).
+     * 
+     * @since 0.1.4
+     */
+    private static class WildcardApiHandle implements IApiHandle {
+        private final ApiHandle handle;
+        private final String apiName;
+
+        WildcardApiHandle(ApiHandle handle, String apiName) {
+            this.handle = handle;
+            this.apiName = apiName;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getModuleName() {
+            return handle.moduleName;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getApiName() {
+            return handle.apiName;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isValid() {
+            return handle.valid;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isRawJsonInput() {
+            return handle.rawJsonInput;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public ApiResult call(String authKey, Object params) {
+            return call(authKey, params, 0);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public ApiResult call(String authKey, Object params, long timeoutMillisecs) {
+            return handle.valid ? handle.registry.callApi(handle, authKey, params,
+                    timeoutMillisecs) : handle.registry.callApi(handle.moduleName, apiName,
+                    authKey, params, timeoutMillisecs);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public ApiFuture<ApiResult> callAsync(String authKey, Object params) {
+            return callAsync(authKey, params, 0);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public ApiFuture<ApiResult> callAsync(String authKey, Object params, long timeoutMillisecs) {
+            return handle.valid ? handle.registry.callApiAsync(handle, authKey, params,
+                    timeoutMillisecs) : handle.registry.callApiAsync(handle.moduleName, apiName,
+                    authKey, params, timeoutMillisecs);
+        }
     }
 }
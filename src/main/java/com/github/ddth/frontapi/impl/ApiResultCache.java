@@ -0,0 +1,260 @@
+package com.github.ddth.frontapi.impl;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.github.ddth.frontapi.ApiResult;
+
+/**
+ * Size-bounded, in-memory cache of {@link ApiResult}s with per-entry TTL.
+ *
+ * <p>
+ * Entries are spread over a number of segments, each is an LRU map guarded by
+ * its own lock, so that concurrent lookups of different keys rarely contend.
+ * Each segment holds at most {@code maxEntries / numSegments} entries, the
+ * least recently used entry is evicted when a segment is full. Expired entries
+ * are dropped when looked up.
+ * </p>
+ *
+ * <p>
+ * Results are cached as {@link CachedApiResult}s, which also keep their
+ * serialized forms; memory taken by serialized forms is bounded by
+ * {@link #getMaxSerializedBytes()}, and freed when results are removed.
+ * </p>
+ *
+ * @author Thanh Ba Nguyen <btnguyen2k@gmail.com>
+ * @since 0.1.4
+ */
+public class ApiResultCache {
+
+    public final static int DEFAULT_MAX_ENTRIES = 10000;
+    public final static int DEFAULT_NUM_SEGMENTS = 16;
+    public final static long DEFAULT_MAX_SERIALIZED_BYTES = 64 * 1024 * 1024;
+
+    private final Segment[] segments;
+    private final AtomicLong hits = new AtomicLong(), misses = new AtomicLong();
+    private final AtomicLong serializedBytes = new AtomicLong();
+    private long maxSerializedBytes = DEFAULT_MAX_SERIALIZED_BYTES;
+
+    public ApiResultCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    public ApiResultCache(int maxEntries) {
+        this(maxEntries, DEFAULT_NUM_SEGMENTS);
+    }
+
+    public ApiResultCache(int maxEntries, int numSegments) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Max entries must be positive!");
+        }
+        numSegments = Math.max(1, Math.min(numSegments, maxEntries));
+        segments = new Segment[numSegments];
+        int segmentSize = (maxEntries + numSegments - 1) / numSegments;
+        for (int i = 0; i < numSegments; i++) {
+            segments[i] = new Segment(segmentSize);
+        }
+    }
+
+    /**
+     * Max total size (in bytes) of serialized forms kept by cached results,
+     * {@code 0} to not keep any.
+     *
+     * @return
+     */
+    public long getMaxSerializedBytes() {
+        return maxSerializedBytes;
+    }
+
+    public ApiResultCache setMaxSerializedBytes(long maxSerializedBytes) {
+        this.maxSerializedBytes = maxSerializedBytes;
+        return this;
+    }
+
+    /**
+     * Current total size (in bytes) of serialized forms kept by cached
+     * results.
+     *
+     * @return
+     */
+    public long getSerializedBytes() {
+        return serializedBytes.get();
+    }
+
+    boolean reserve(long numBytes) {
+        while (true) {
+            long current = serializedBytes.get();
+            if (current + numBytes > maxSerializedBytes) {
+                return false;
+            }
+            if (serializedBytes.compareAndSet(current, current + numBytes)) {
+                return true;
+            }
+        }
+    }
+
+    void free(long numBytes) {
+        if (numBytes > 0) {
+            serializedBytes.addAndGet(-numBytes);
+        }
+    }
+
+    private Segment segment(String key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        return segments[(h & 0x7fffffff) % segments.length];
+    }
+
+    /**
+     * Gets a cached result.
+     *
+     * @param key
+     * @return the cached result, or {@code null} if not found or expired
+     */
+    public ApiResult get(String key) {
+        Segment segment = segment(key);
+        CacheEntry entry;
+        synchronized (segment) {
+            entry = segment.get(key);
+            if (entry != null && entry.expiry - System.nanoTime() <= 0) {
+                segment.remove(key);
+                entry.result.release();
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return entry.result;
+    }
+
+    /**
+     * Caches a result.
+     *
+     * @param key
+     * @param result
+     * @param ttlMillisecs
+     *            time-to-live of the entry
+     * @return the cached copy of {@code result}, to be used in place of it
+     */
+    public ApiResult put(String key, ApiResult result, long ttlMillisecs) {
+        if (ttlMillisecs <= 0) {
+            return result;
+        }
+        CachedApiResult cached = new CachedApiResult(this, result);
+        CacheEntry entry = new CacheEntry(cached, System.nanoTime() + ttlMillisecs * 1000000L);
+        Segment segment = segment(key);
+        CacheEntry replaced;
+        synchronized (segment) {
+            replaced = segment.put(key, entry);
+        }
+        if (replaced != null) {
+            replaced.result.release();
+        }
+        return cached;
+    }
+
+    /**
+     * Removes all entries whose keys start with a prefix.
+     *
+     * @param keyPrefix
+     */
+    public void removeAll(String keyPrefix) {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                Iterator<Map.Entry<String, CacheEntry>> it = segment.entrySet().iterator();
+                while (it.hasNext()) {
+                    Map.Entry<String, CacheEntry> entry = it.next();
+                    if (entry.getKey().startsWith(keyPrefix)) {
+                        it.remove();
+                        entry.getValue().result.release();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                for (CacheEntry entry : segment.values()) {
+                    entry.result.release();
+                }
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     * Current number of entries (including expired ones not yet dropped).
+     *
+     * @return
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Number of lookups that found a live entry.
+     *
+     * @return
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Number of lookups that found no live entry.
+     *
+     * @return
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    private static class CacheEntry {
+        final CachedApiResult result;
+        final long expiry;
+
+        CacheEntry(CachedApiResult result, long expiry) {
+            this.result = result;
+            this.expiry = expiry;
+        }
+    }
+
+    /**
+     * Access-ordered map that evicts its least recently used entry when full.
+     */
+    private static class Segment extends LinkedHashMap<String, CacheEntry> {
+        private static final long serialVersionUID = 1L;
+
+        private final int maxEntries;
+
+        Segment(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+            if (size() > maxEntries) {
+                eldest.getValue().result.release();
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -2,8 +2,9 @@ package com.github.ddth.frontapi.impl;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
@@ -15,10 +16,17 @@ import javax.servlet.http.HttpServletResponse;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.github.ddth.frontapi.ApiCall;
 import com.github.ddth.frontapi.ApiResult;
+import com.github.ddth.frontapi.FrontApiConstants;
+import com.github.ddth.frontapi.IApi;
+import com.github.ddth.frontapi.IApiHandle;
 import com.github.ddth.frontapi.IApiRegistry;
+import com.github.ddth.frontapi.RawJson;
 import com.github.ddth.frontapi.internal.Activator;
 import com.github.ddth.frontapi.internal.JsonUtils;
+import com.github.ddth.frontapi.internal.LimitedInputStream;
 
 /**
  * A simple servlet which returns JSON data.
@@ -28,15 +36,25 @@ import com.github.ddth.frontapi.internal.JsonUtils;
 public class ApiServlet extends HttpServlet {
 	private static final long serialVersionUID = 1L;
 
-	private final static Charset UTF8 = Charset.forName("UTF-8");
+	public final static long DEFAULT_MAX_REQUEST_SIZE = 1048576;
 
 	private String urlMapping = Activator.DEFAULT_REST_MAPPING;
 	private IApiRegistry apiRegistry;
+	private long maxRequestSize = DEFAULT_MAX_REQUEST_SIZE;
 
-	private static class RequestTokens {
+	protected static class RequestTokens {
 
 		public String authKey, moduleName, apiName;
 
+		/**
+		 * Caller's timeout, from header
+		 * {@link FrontApiConstants#REST_HEADER_TIMEOUT};
+		 * {@code 0} if none.
+		 * 
+		 * @since 0.1.4
+		 */
+		public long timeoutMillisecs;
+
 		public static RequestTokens extractTokens(HttpServletRequest request,
 				String urlMapping) {
 			String requestUri = request.getRequestURI();
@@ -48,6 +66,14 @@ public class ApiServlet extends HttpServlet {
 			requestTokens.authKey = tokens.length > 0 ? tokens[0] : null;
 			requestTokens.moduleName = tokens.length > 1 ? tokens[1] : null;
 			requestTokens.apiName = tokens.length > 2 ? tokens[2] : null;
+			try {
+				String timeout = request
+						.getHeader(FrontApiConstants.REST_HEADER_TIMEOUT);
+				requestTokens.timeoutMillisecs = timeout != null ? Long
+						.parseLong(timeout.trim()) : 0;
+			} catch (NumberFormatException e) {
+				requestTokens.timeoutMillisecs = 0;
+			}
 			return requestTokens;
 		}
 	}
@@ -84,9 +110,9 @@ public class ApiServlet extends HttpServlet {
 				}
 			}
 		}
-		ApiResult apiResult = apiRegistry.callApi(requestTokens.moduleName,
-				requestTokens.apiName, requestTokens.authKey, requestParams);
-		jsonResponse(response, apiResult);
+		IApiHandle handle = apiRegistry.resolve(requestTokens.moduleName,
+				requestTokens.apiName);
+		callApi(request, response, requestTokens, handle, requestParams);
 	}
 
 	/**
@@ -97,24 +123,171 @@ public class ApiServlet extends HttpServlet {
 			HttpServletResponse response) throws ServletException, IOException {
 		RequestTokens requestTokens = RequestTokens.extractTokens(request,
 				urlMapping);
+		if (maxRequestSize > 0 && request.getContentLength() > maxRequestSize) {
+			jsonResponse(response, requestTooLarge());
+			return;
+		}
+		boolean batch = FrontApiConstants.REST_BATCH_PATH
+				.equals(requestTokens.moduleName)
+				&& requestTokens.apiName == null;
+		IApiHandle handle = batch ? null : apiRegistry.resolve(
+				requestTokens.moduleName, requestTokens.apiName);
 		InputStream is = request.getInputStream();
+		if (maxRequestSize > 0) {
+			// the size limit also bounds memory used by slow/malicious clients
+			// sending without Content-Length
+			is = new LimitedInputStream(is, maxRequestSize);
+		}
 		Object requestParams = null;
 		try {
-			// TODO buffer-over-flow?
-			// TODO slow client?
-			String strApiParams = IOUtils.toString(is, UTF8);
-			requestParams = JsonUtils.fromJsonString(strApiParams);
+			if (handle != null && handle.isRawJsonInput()) {
+				// pass the body as-is, the API parses it if it needs to
+				byte[] body = IOUtils.toByteArray(is);
+				requestParams = body.length > 0 ? new RawJson(body) : null;
+			} else {
+				// parse directly from the stream
+				requestParams = JsonUtils.fromJsonStream(is);
+			}
+		} catch (LimitedInputStream.LimitExceededException e) {
+			jsonResponse(response, requestTooLarge());
+			return;
+		} catch (JsonProcessingException e) {
+			jsonResponse(response, new ApiResult(IApi.STATUS_BAD_REQUEST,
+					"Invalid JSON input: " + e.getOriginalMessage()));
+			return;
 		} finally {
 			IOUtils.closeQuietly(is);
 		}
-		ApiResult apiResult = apiRegistry.callApi(requestTokens.moduleName,
-				requestTokens.apiName, requestTokens.authKey, requestParams);
+		if (batch) {
+			List<ApiCall> calls = toApiCalls(requestParams);
+			if (calls == null) {
+				jsonResponse(response, new ApiResult(IApi.STATUS_BAD_REQUEST,
+						"Batch input must be a list of api calls!"));
+			} else {
+				callApis(request, response, requestTokens.authKey, calls);
+			}
+			return;
+		}
+		callApi(request, response, requestTokens, handle, requestParams);
+	}
+
+	/**
+	 * Converts batch input (a list of
+	 * <code>{"moduleName":..., "apiName":..., "params":...}</code>) to
+	 * {@link ApiCall}s.
+	 * 
+	 * @param batchInput
+	 * @return {@code null} if the input is not a list; invalid entries are
+	 *         converted to {@code null}
+	 */
+	private static List<ApiCall> toApiCalls(Object batchInput) {
+		if (!(batchInput instanceof List)) {
+			return null;
+		}
+		List<?> entries = (List<?>) batchInput;
+		List<ApiCall> calls = new ArrayList<ApiCall>(entries.size());
+		for (Object entry : entries) {
+			if (entry instanceof Map) {
+				Map<?, ?> map = (Map<?, ?>) entry;
+				Object moduleName = map.get(ApiCall.FIELD_MODULE_NAME);
+				Object apiName = map.get(ApiCall.FIELD_API_NAME);
+				calls.add(new ApiCall(moduleName != null ? moduleName
+						.toString() : null, apiName != null ? apiName
+						.toString() : null, map.get(ApiCall.FIELD_PARAMS)));
+			} else {
+				calls.add(null);
+			}
+		}
+		return calls;
+	}
+
+	private ApiResult requestTooLarge() {
+		return new ApiResult(IApi.STATUS_REQUEST_ENTITY_TOO_LARGE,
+				"Request exceeds " + maxRequestSize + " bytes!");
+	}
+
+	/**
+	 * Max size (in bytes) of a POST request's body, {@code 0} or negative
+	 * means unlimited.
+	 * 
+	 * @return
+	 * @since 0.1.4
+	 */
+	public long getMaxRequestSize() {
+		return maxRequestSize;
+	}
+
+	public ApiServlet setMaxRequestSize(long maxRequestSize) {
+		this.maxRequestSize = maxRequestSize;
+		return this;
+	}
+
+	protected IApiRegistry getApiRegistry() {
+		return apiRegistry;
+	}
+
+	/**
+	 * Calls the API and writes its result to the response.
+	 * 
+	 * <p>
+	 * The API is called through the handle resolved when the request was
+	 * read, so that input is prepared and dispatched according to the same
+	 * registration; requests to APIs that are not found ({@code handle} is
+	 * {@code null}) go to the registry, which answers them.
+	 * </p>
+	 * 
+	 * @param request
+	 * @param response
+	 * @param requestTokens
+	 * @param handle
+	 *            the resolved API, {@code null} if not found
+	 * @param requestParams
+	 * @throws IOException
+	 * @since 0.1.4
+	 */
+	protected void callApi(HttpServletRequest request,
+			HttpServletResponse response, RequestTokens requestTokens,
+			IApiHandle handle, Object requestParams) throws IOException {
+		ApiResult apiResult = handle != null ? handle.call(
+				requestTokens.authKey, requestParams,
+				requestTokens.timeoutMillisecs) : apiRegistry.callApi(
+				requestTokens.moduleName, requestTokens.apiName,
+				requestTokens.authKey, requestParams,
+				requestTokens.timeoutMillisecs);
 		jsonResponse(response, apiResult);
 	}
 
-	private void jsonResponse(HttpServletResponse response, ApiResult apiResult)
+	/**
+	 * Calls a batch of APIs and writes their results (as output of an
+	 * {@link ApiResult}) to the response.
+	 * 
+	 * @param request
+	 * @param response
+	 * @param authKey
+	 * @param calls
+	 * @throws IOException
+	 * @since 0.1.4
+	 */
+	protected void callApis(HttpServletRequest request,
+			HttpServletResponse response, String authKey, List<ApiCall> calls)
+			throws IOException {
+		List<ApiResult> apiResults = apiRegistry.callApis(authKey, calls);
+		jsonResponse(response, new ApiResult(IApi.STATUS_OK, apiResults));
+	}
+
+	protected void jsonResponse(HttpServletResponse response, ApiResult apiResult)
 			throws IOException {
 		response.setContentType("application/json;charset=UTF-8");
-		response.getWriter().write(JsonUtils.toJsonString(apiResult));
+		if (apiResult instanceof CachedApiResult) {
+			// cached result: write its already serialized form
+			byte[] data = ((CachedApiResult) apiResult).toJsonBytes();
+			response.setContentLength(data.length);
+			response.getOutputStream().write(data);
+			return;
+		}
+		// no Content-Length: large outputs are streamed by the container
+		// using chunked transfer-encoding once its buffer is full; RawJson
+		// output is written verbatim (see RawJsonSerializer)
+		JsonUtils.writeJson(response.getOutputStream(), apiResult);
 	}
 }
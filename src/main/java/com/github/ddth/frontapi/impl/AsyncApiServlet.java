@@ -0,0 +1,275 @@
+package com.github.ddth.frontapi.impl;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.ddth.frontapi.ApiCall;
+import com.github.ddth.frontapi.ApiFuture;
+import com.github.ddth.frontapi.ApiResult;
+import com.github.ddth.frontapi.IApi;
+import com.github.ddth.frontapi.IApiCallback;
+import com.github.ddth.frontapi.IApiHandle;
+import com.github.ddth.frontapi.IApiRegistry;
+
+/**
+ * {@link ApiServlet} that uses Servlet 3 async processing: the request is
+ * suspended, the API is called in a dedicated executor and the response is
+ * written upon completion.
+ *
+ * <p>
+ * Requires a Servlet 3 container that dispatches requests to this servlet
+ * with async support. The OSGi {@code HttpService} has no option to register
+ * an async-supported servlet, so whether requests are async-capable depends on
+ * the {@code HttpService} implementation. Otherwise requests are processed
+ * synchronously (like {@link ApiServlet}) and a warning is logged. Servlet 3
+ * APIs are only touched once the container is known to be Servlet 3, so that
+ * the servlet also works (synchronously) in Servlet 2.5 containers.
+ * </p>
+ *
+ * @author Thanh Ba Nguyen <btnguyen2k@gmail.com>
+ * @since 0.1.4
+ */
+public class AsyncApiServlet extends ApiServlet {
+	private static final long serialVersionUID = 1L;
+
+	public final static long DEFAULT_ASYNC_TIMEOUT = 10000;
+
+	private final Logger LOGGER = LoggerFactory
+			.getLogger(AsyncApiServlet.class);
+
+	private ExecutorService executor;
+	private long asyncTimeoutMillisecs = DEFAULT_ASYNC_TIMEOUT;
+
+	/**
+	 * {@code true} if the container implements Servlet 3 (checked in
+	 * {@link #init()}).
+	 */
+	private volatile boolean servlet3;
+	private final AtomicBoolean warnedAsyncUnsupported = new AtomicBoolean(
+			false);
+
+	public AsyncApiServlet(IApiRegistry apiRegistry, String urlMapping,
+			ExecutorService executor, long asyncTimeoutMillisecs) {
+		super(apiRegistry, urlMapping);
+		this.executor = executor;
+		this.asyncTimeoutMillisecs = asyncTimeoutMillisecs;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void init() throws ServletException {
+		super.init();
+		servlet3 = getServletContext().getMajorVersion() >= 3;
+		if (!servlet3) {
+			LOGGER.warn("REST async mode is enabled but the servlet container "
+					+ "does not implement Servlet 3 ("
+					+ getServletContext().getServerInfo()
+					+ "); requests are processed synchronously.");
+		}
+	}
+
+	/**
+	 * Checks if a request can be processed asynchronously; warns (once) if the
+	 * container does not support async for this servlet.
+	 * 
+	 * @param request
+	 * @return
+	 */
+	private boolean isAsync(HttpServletRequest request) {
+		if (!servlet3) {
+			return false;
+		}
+		if (request.isAsyncSupported()) {
+			return true;
+		}
+		if (warnedAsyncUnsupported.compareAndSet(false, true)) {
+			LOGGER.warn("REST async mode is enabled but the HttpService does "
+					+ "not register servlets with async support; "
+					+ "requests are processed synchronously.");
+		}
+		return false;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void callApi(HttpServletRequest request,
+			HttpServletResponse response, final RequestTokens requestTokens,
+			final IApiHandle handle, final Object requestParams)
+			throws IOException {
+		if (!isAsync(request)) {
+			super.callApi(request, response, requestTokens, handle,
+					requestParams);
+			return;
+		}
+
+		final AtomicBoolean responded = new AtomicBoolean(false);
+		final AsyncContext asyncContext = startAsync(request, response,
+				responded, "Api [" + requestTokens.moduleName + "/"
+						+ requestTokens.apiName + "] timed out!");
+		dispatch(asyncContext, responded, new Runnable() {
+			@Override
+			public void run() {
+				ApiFuture<ApiResult> future = handle != null ? handle
+						.callAsync(requestTokens.authKey, requestParams,
+								requestTokens.timeoutMillisecs)
+						: getApiRegistry().callApiAsync(
+								requestTokens.moduleName,
+								requestTokens.apiName, requestTokens.authKey,
+								requestParams, requestTokens.timeoutMillisecs);
+				future.addCallback(new IApiCallback<ApiResult>() {
+					@Override
+					public void onComplete(ApiResult apiResult) {
+						respond(asyncContext, responded, apiResult);
+					}
+
+					@Override
+					public void onError(Exception e) {
+						respond(asyncContext, responded,
+								new ApiResult(
+										IApi.STATUS_SERVER_ERROR,
+										e.getMessage()));
+					}
+				});
+			}
+		});
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void callApis(HttpServletRequest request,
+			HttpServletResponse response, final String authKey,
+			final List<ApiCall> calls) throws IOException {
+		if (!isAsync(request)) {
+			super.callApis(request, response, authKey, calls);
+			return;
+		}
+
+		final AtomicBoolean responded = new AtomicBoolean(false);
+		final AsyncContext asyncContext = startAsync(request, response,
+				responded, "Batch call timed out!");
+		dispatch(asyncContext, responded, new Runnable() {
+			@Override
+			public void run() {
+				getApiRegistry().callApisAsync(authKey, calls).addCallback(
+						new IApiCallback<List<ApiResult>>() {
+							@Override
+							public void onComplete(List<ApiResult> apiResults) {
+								respond(asyncContext, responded, new ApiResult(
+										IApi.STATUS_OK, apiResults));
+							}
+
+							@Override
+							public void onError(Exception e) {
+								respond(asyncContext, responded,
+										new ApiResult(
+												IApi.STATUS_SERVER_ERROR,
+												e.getMessage()));
+							}
+						});
+			}
+		});
+	}
+
+	/**
+	 * Suspends the request; it is answered with status 504 on timeout and 500
+	 * on error.
+	 * 
+	 * @param request
+	 * @param response
+	 * @param responded
+	 * @param timeoutMessage
+	 * @return
+	 */
+	private AsyncContext startAsync(HttpServletRequest request,
+			HttpServletResponse response, final AtomicBoolean responded,
+			final String timeoutMessage) {
+		final AsyncContext asyncContext = request.startAsync(request, response);
+		asyncContext.setTimeout(asyncTimeoutMillisecs);
+		asyncContext.addListener(new AsyncListener() {
+			@Override
+			public void onTimeout(AsyncEvent event) throws IOException {
+				respond(asyncContext, responded, new ApiResult(
+						IApi.STATUS_GATEWAY_TIMEOUT, timeoutMessage));
+			}
+
+			@Override
+			public void onError(AsyncEvent event) throws IOException {
+				Throwable t = event.getThrowable();
+				respond(asyncContext, responded, new ApiResult(
+						IApi.STATUS_SERVER_ERROR, t != null ? t.getMessage()
+								: null));
+			}
+
+			@Override
+			public void onStartAsync(AsyncEvent event) throws IOException {
+				// EMPTY
+			}
+
+			@Override
+			public void onComplete(AsyncEvent event) throws IOException {
+				// EMPTY
+			}
+		});
+		return asyncContext;
+	}
+
+	/**
+	 * Runs a task in the executor, answers with status 503 if the executor is
+	 * saturated.
+	 * 
+	 * @param asyncContext
+	 * @param responded
+	 * @param task
+	 */
+	private void dispatch(AsyncContext asyncContext, AtomicBoolean responded,
+			Runnable task) {
+		try {
+			executor.execute(task);
+		} catch (RejectedExecutionException e) {
+			respond(asyncContext, responded, new ApiResult(
+					IApi.STATUS_SERVICE_UNAVAILABLE, "Server is busy!"));
+		}
+	}
+
+	/**
+	 * Writes the response and completes the async request, at most once per
+	 * request.
+	 *
+	 * @param asyncContext
+	 * @param responded
+	 * @param apiResult
+	 */
+	private void respond(AsyncContext asyncContext, AtomicBoolean responded,
+			ApiResult apiResult) {
+		if (!responded.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			jsonResponse((HttpServletResponse) asyncContext.getResponse(),
+					apiResult);
+		} catch (Exception e) {
+			LOGGER.warn(e.getMessage(), e);
+		} finally {
+			asyncContext.complete();
+		}
+	}
+}
@@ -0,0 +1,133 @@
+package com.github.ddth.frontapi.impl;
+
+import com.github.ddth.frontapi.ApiResult;
+import com.github.ddth.frontapi.internal.JsonUtils;
+import com.github.ddth.frontapi.internal.SmileUtils;
+
+/**
+ * An {@link ApiResult} held by an {@link ApiResultCache}, that also keeps its
+ * serialized forms so that transports can write them as-is.
+ *
+ * <p>
+ * Each form is serialized on first use and kept as long as the result stays
+ * in the cache, within the cache's budget (see
+ * {@link ApiResultCache#getMaxSerializedBytes()}); once the budget is used
+ * up, forms are serialized on every use, as for any other result.
+ * </p>
+ *
+ * @author Thanh Ba Nguyen <btnguyen2k@gmail.com>
+ * @since 0.1.4
+ */
+public class CachedApiResult extends ApiResult {
+
+    private final ApiResultCache cache;
+    private volatile byte[] json, outputJsonBytes, outputSmile;
+    private volatile String outputJson;
+    private long chargedBytes;
+    private boolean released;
+
+    CachedApiResult(ApiResultCache cache, ApiResult apiResult) {
+        super(apiResult.getStatus(), apiResult.getOutput());
+        this.cache = cache;
+    }
+
+    /**
+     * Takes {@code numBytes} from the cache's budget to keep a serialized
+     * form.
+     *
+     * @param numBytes
+     * @return {@code false} if the form must not be kept
+     */
+    synchronized private boolean charge(long numBytes) {
+        if (released || !cache.reserve(numBytes)) {
+            return false;
+        }
+        chargedBytes += numBytes;
+        return true;
+    }
+
+    /**
+     * Called when the result is removed from the cache: gives the bytes taken
+     * by its serialized forms back to the cache's budget.
+     */
+    synchronized void release() {
+        if (!released) {
+            released = true;
+            cache.free(chargedBytes);
+            chargedBytes = 0;
+        }
+    }
+
+    /**
+     * The whole result ({@code status} and {@code output}) as UTF-8 encoded
+     * Json data.
+     *
+     * @return
+     */
+    public byte[] toJsonBytes() {
+        byte[] result = json;
+        if (result == null) {
+            result = JsonUtils.toJsonBytes(this);
+            synchronized (this) {
+                if (json == null && charge(result.length)) {
+                    json = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The output as Json string.
+     *
+     * @return
+     */
+    public String outputToJsonString() {
+        String result = outputJson;
+        if (result == null && getOutput() != null) {
+            result = JsonUtils.toJsonString(getOutput());
+            synchronized (this) {
+                if (outputJson == null && charge(2L * result.length())) {
+                    outputJson = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The output as UTF-8 encoded Json data.
+     *
+     * @return
+     */
+    public byte[] outputToJsonBytes() {
+        byte[] result = outputJsonBytes;
+        if (result == null && getOutput() != null) {
+            result = JsonUtils.toJsonBytes(getOutput());
+            synchronized (this) {
+                if (outputJsonBytes == null && charge(result.length)) {
+                    outputJsonBytes = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The output as Smile data.
+     *
+     * @return
+     */
+    public byte[] outputToSmile() {
+        byte[] result = outputSmile;
+        if (result == null && getOutput() != null) {
+            result = SmileUtils.toSmile(getOutput());
+            synchronized (this) {
+                if (outputSmile == null && charge(result.length)) {
+                    outputSmile = result;
+                }
+            }
+        }
+        return result;
+    }
+}
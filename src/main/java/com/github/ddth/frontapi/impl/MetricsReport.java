@@ -0,0 +1,287 @@
+package com.github.ddth.frontapi.impl;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryUsage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import com.yammer.metrics.core.Timer;
+import com.yammer.metrics.stats.Snapshot;
+
+/**
+ * Builds reports of FrontApi's runtime metrics: per-API stats (see
+ * {@link ApiMetrics}), thread pools (Thrift workers, batch calls...), result
+ * cache and JVM memory/threads/GC.
+ *
+ * <p>
+ * Reports come in two formats: a tree of maps (to be serialized as Json) and
+ * plain text, one {@code name{labels} value} sample per line (as scraped by
+ * Prometheus and the like).
+ * </p>
+ *
+ * @author Thanh Ba Nguyen <btnguyen2k@gmail.com>
+ * @since 0.1.4
+ */
+public class MetricsReport {
+
+    public final static String THREAD_POOL_THRIFT = "thrift";
+
+    private ApiRegistry apiRegistry;
+    private ThriftApiServer thriftApiServer;
+    private Map<String, ExecutorService> threadPools = new ConcurrentHashMap<String, ExecutorService>();
+
+    public MetricsReport() {
+    }
+
+    public MetricsReport(ApiRegistry apiRegistry) {
+        this.apiRegistry = apiRegistry;
+    }
+
+    public ApiRegistry getApiRegistry() {
+        return apiRegistry;
+    }
+
+    public MetricsReport setApiRegistry(ApiRegistry apiRegistry) {
+        this.apiRegistry = apiRegistry;
+        return this;
+    }
+
+    public ThriftApiServer getThriftApiServer() {
+        return thriftApiServer;
+    }
+
+    /**
+     * Thrift server whose worker pool is reported as thread pool
+     * {@value #THREAD_POOL_THRIFT}.
+     *
+     * @param thriftApiServer
+     * @return
+     */
+    public MetricsReport setThriftApiServer(ThriftApiServer thriftApiServer) {
+        this.thriftApiServer = thriftApiServer;
+        return this;
+    }
+
+    /**
+     * Adds a thread pool to report; only {@link ThreadPoolExecutor}s are
+     * reported.
+     *
+     * @param name
+     * @param threadPool
+     *            {@code null} to remove the thread pool
+     * @return
+     */
+    public MetricsReport setThreadPool(String name, ExecutorService threadPool) {
+        if (threadPool != null) {
+            threadPools.put(name, threadPool);
+        } else {
+            threadPools.remove(name);
+        }
+        return this;
+    }
+
+    private Map<String, ThreadPoolExecutor> threadPools() {
+        Map<String, ThreadPoolExecutor> result = new LinkedHashMap<String, ThreadPoolExecutor>();
+        ThreadPoolExecutor thriftWorkers = thriftApiServer != null ? thriftApiServer
+                .getWorkerExecutor() : null;
+        if (thriftWorkers != null) {
+            result.put(THREAD_POOL_THRIFT, thriftWorkers);
+        }
+        for (Map.Entry<String, ExecutorService> entry : threadPools.entrySet()) {
+            if (entry.getValue() instanceof ThreadPoolExecutor) {
+                result.put(entry.getKey(), (ThreadPoolExecutor) entry.getValue());
+            }
+        }
+        return result;
+    }
+
+    /*----------------------------------------------------------------------*/
+
+    /**
+     * Builds the report as a tree of maps, lists and numbers.
+     *
+     * @return
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> report = new LinkedHashMap<String, Object>();
+        report.put("apis", apisToMap());
+        report.put("thread_pools", threadPoolsToMap());
+        ApiResultCache cache = apiRegistry != null ? apiRegistry.getResultCache() : null;
+        if (cache != null) {
+            Map<String, Object> cacheReport = new LinkedHashMap<String, Object>();
+            cacheReport.put("entries", cache.size());
+            cacheReport.put("hits", cache.getHits());
+            cacheReport.put("misses", cache.getMisses());
+            cacheReport.put("serialized_bytes", cache.getSerializedBytes());
+            report.put("cache", cacheReport);
+        }
+        report.put("jvm", jvmToMap());
+        return report;
+    }
+
+    private Map<String, Object> apisToMap() {
+        Map<String, Object> result = new LinkedHashMap<String, Object>();
+        if (apiRegistry == null) {
+            return result;
+        }
+        for (ApiMetrics metrics : apiRegistry.getApiMetrics()) {
+            Timer calls = metrics.getCalls();
+            Snapshot snapshot = calls.getSnapshot();
+            Map<String, Object> apiReport = new LinkedHashMap<String, Object>();
+            apiReport.put("count", calls.count());
+            apiReport.put("rate_1m", calls.oneMinuteRate());
+            apiReport.put("rate_5m", calls.fiveMinuteRate());
+            apiReport.put("rate_15m", calls.fifteenMinuteRate());
+            apiReport.put("mean_ms", calls.mean());
+            apiReport.put("p50_ms", snapshot.getMedian());
+            apiReport.put("p95_ms", snapshot.get95thPercentile());
+            apiReport.put("p99_ms", snapshot.get99thPercentile());
+            apiReport.put("max_ms", calls.max());
+            apiReport.put("in_flight", metrics.getInFlight());
+            apiReport.put("failures", metrics.getFailures());
+            result.put(metrics.getModuleName() + "/" + metrics.getApiName(), apiReport);
+        }
+        return result;
+    }
+
+    private Map<String, Object> threadPoolsToMap() {
+        Map<String, Object> result = new LinkedHashMap<String, Object>();
+        for (Map.Entry<String, ThreadPoolExecutor> entry : threadPools().entrySet()) {
+            ThreadPoolExecutor threadPool = entry.getValue();
+            Map<String, Object> poolReport = new LinkedHashMap<String, Object>();
+            poolReport.put("pool_size", threadPool.getPoolSize());
+            poolReport.put("max_pool_size", threadPool.getMaximumPoolSize());
+            poolReport.put("active", threadPool.getActiveCount());
+            poolReport.put("queue_size", threadPool.getQueue().size());
+            poolReport.put("queue_remaining", threadPool.getQueue().remainingCapacity());
+            poolReport.put("completed", threadPool.getCompletedTaskCount());
+            result.put(entry.getKey(), poolReport);
+        }
+        return result;
+    }
+
+    private static Map<String, Object> memoryUsageToMap(MemoryUsage usage) {
+        Map<String, Object> result = new LinkedHashMap<String, Object>();
+        result.put("used", usage.getUsed());
+        result.put("committed", usage.getCommitted());
+        result.put("max", usage.getMax());
+        return result;
+    }
+
+    private static Map<String, Object> jvmToMap() {
+        Map<String, Object> result = new LinkedHashMap<String, Object>();
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        result.put("heap", memoryUsageToMap(memory.getHeapMemoryUsage()));
+        result.put("non_heap", memoryUsageToMap(memory.getNonHeapMemoryUsage()));
+        Map<String, Object> pools = new LinkedHashMap<String, Object>();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            MemoryUsage usage = pool.getUsage();
+            if (usage != null) {
+                pools.put(pool.getName(), memoryUsageToMap(usage));
+            }
+        }
+        result.put("memory_pools", pools);
+        Map<String, Object> gcs = new LinkedHashMap<String, Object>();
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            Map<String, Object> gcReport = new LinkedHashMap<String, Object>();
+            gcReport.put("count", gc.getCollectionCount());
+            gcReport.put("time_ms", gc.getCollectionTime());
+            gcs.put(gc.getName(), gcReport);
+        }
+        result.put("gc", gcs);
+        Map<String, Object> threads = new LinkedHashMap<String, Object>();
+        threads.put("live", ManagementFactory.getThreadMXBean().getThreadCount());
+        threads.put("daemon", ManagementFactory.getThreadMXBean().getDaemonThreadCount());
+        result.put("threads", threads);
+        return result;
+    }
+
+    /*----------------------------------------------------------------------*/
+
+    /**
+     * Builds the report as plain text, one {@code name{labels} value} sample
+     * per line.
+     *
+     * @return
+     */
+    public String toText() {
+        StringBuilder sb = new StringBuilder();
+        if (apiRegistry != null) {
+            for (ApiMetrics metrics : apiRegistry.getApiMetrics()) {
+                String labels = "module=\"" + escape(metrics.getModuleName()) + "\",api=\""
+                        + escape(metrics.getApiName()) + "\"";
+                Timer calls = metrics.getCalls();
+                Snapshot snapshot = calls.getSnapshot();
+                sample(sb, "frontapi_api_calls_total", labels, calls.count());
+                sample(sb, "frontapi_api_calls_rate_1m", labels, calls.oneMinuteRate());
+                sample(sb, "frontapi_api_latency_ms", labels + ",quantile=\"0.5\"",
+                        snapshot.getMedian());
+                sample(sb, "frontapi_api_latency_ms", labels + ",quantile=\"0.95\"",
+                        snapshot.get95thPercentile());
+                sample(sb, "frontapi_api_latency_ms", labels + ",quantile=\"0.99\"",
+                        snapshot.get99thPercentile());
+                sample(sb, "frontapi_api_latency_ms_max", labels, calls.max());
+                sample(sb, "frontapi_api_in_flight", labels, metrics.getInFlight());
+                for (Map.Entry<Integer, Long> entry : metrics.getFailures().entrySet()) {
+                    sample(sb, "frontapi_api_failures_total", labels + ",status=\""
+                            + entry.getKey() + "\"", entry.getValue());
+                }
+            }
+        }
+        for (Map.Entry<String, ThreadPoolExecutor> entry : threadPools().entrySet()) {
+            String labels = "pool=\"" + escape(entry.getKey()) + "\"";
+            ThreadPoolExecutor threadPool = entry.getValue();
+            sample(sb, "frontapi_thread_pool_size", labels, threadPool.getPoolSize());
+            sample(sb, "frontapi_thread_pool_active", labels, threadPool.getActiveCount());
+            sample(sb, "frontapi_thread_pool_queue_size", labels, threadPool.getQueue().size());
+            sample(sb, "frontapi_thread_pool_completed_total", labels,
+                    threadPool.getCompletedTaskCount());
+        }
+        ApiResultCache cache = apiRegistry != null ? apiRegistry.getResultCache() : null;
+        if (cache != null) {
+            sample(sb, "frontapi_cache_entries", null, cache.size());
+            sample(sb, "frontapi_cache_hits_total", null, cache.getHits());
+            sample(sb, "frontapi_cache_misses_total", null, cache.getMisses());
+            sample(sb, "frontapi_cache_serialized_bytes", null, cache.getSerializedBytes());
+        }
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        sample(sb, "jvm_memory_used_bytes", "area=\"heap\"", memory.getHeapMemoryUsage()
+                .getUsed());
+        sample(sb, "jvm_memory_max_bytes", "area=\"heap\"", memory.getHeapMemoryUsage().getMax());
+        sample(sb, "jvm_memory_used_bytes", "area=\"non_heap\"", memory
+                .getNonHeapMemoryUsage().getUsed());
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            MemoryUsage usage = pool.getUsage();
+            if (usage != null) {
+                String labels = "pool=\"" + escape(pool.getName()) + "\"";
+                sample(sb, "jvm_memory_pool_used_bytes", labels, usage.getUsed());
+                sample(sb, "jvm_memory_pool_max_bytes", labels, usage.getMax());
+            }
+        }
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            String labels = "gc=\"" + escape(gc.getName()) + "\"";
+            sample(sb, "jvm_gc_collections_total", labels, gc.getCollectionCount());
+            sample(sb, "jvm_gc_time_ms_total", labels, gc.getCollectionTime());
+        }
+        sample(sb, "jvm_threads_live", null, ManagementFactory.getThreadMXBean().getThreadCount());
+        return sb.toString();
+    }
+
+    private static void sample(StringBuilder sb, String name, String labels, Number value) {
+        sb.append(name);
+        if (labels != null) {
+            sb.append('{').append(labels).append('}');
+        }
+        sb.append(' ').append(value).append('\n');
+    }
+
+    private static String escape(String labelValue) {
+        return labelValue.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,49 @@
+package com.github.ddth.frontapi.impl;
+
+import java.io.IOException;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import com.github.ddth.frontapi.internal.JsonUtils;
+
+/**
+ * Servlet that returns a {@link MetricsReport}: as Json by default, as plain
+ * text with {@code ?format=text}.
+ *
+ * @author Thanh Ba Nguyen <btnguyen2k@gmail.com>
+ * @since 0.1.4
+ */
+public class MetricsServlet extends HttpServlet {
+	private static final long serialVersionUID = 1L;
+
+	public final static String PARAM_FORMAT = "format";
+	public final static String FORMAT_JSON = "json";
+	public final static String FORMAT_TEXT = "text";
+
+	private MetricsReport metricsReport;
+
+	public MetricsServlet(MetricsReport metricsReport) {
+		this.metricsReport = metricsReport;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void doGet(HttpServletRequest request,
+			HttpServletResponse response) throws ServletException, IOException {
+		response.setHeader("Cache-Control", "no-cache");
+		if (FORMAT_TEXT.equalsIgnoreCase(request.getParameter(PARAM_FORMAT))) {
+			response.setContentType("text/plain;charset=UTF-8");
+			response.getOutputStream().write(
+					metricsReport.toText().getBytes("UTF-8"));
+		} else {
+			response.setContentType("application/json;charset=UTF-8");
+			JsonUtils.writeJson(response.getOutputStream(),
+					metricsReport.toMap());
+		}
+	}
+}
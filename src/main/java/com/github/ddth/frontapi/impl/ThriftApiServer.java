@@ -1,5 +1,7 @@
 package com.github.ddth.frontapi.impl;
 
+import java.util.concurrent.ThreadPoolExecutor;
+
 import org.apache.thrift.TException;
 import org.apache.thrift.TProcessor;
 import org.apache.thrift.server.TServer;
@@ -7,13 +9,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.github.ddth.frontapi.IApiRegistry;
+import com.github.ddth.frontapi.internal.thrift.AbstractServerFactory;
 import com.github.ddth.frontapi.internal.thrift.IServerFactory;
 import com.github.ddth.frontapi.internal.thrift.JsonApiHandler;
 import com.github.ddth.frontapi.internal.thrift.TApi;
 import com.github.ddth.frontapi.internal.thrift.ThreadedSelectorServerFactory;
 import com.github.ddth.frontapi.internal.thrift.ThreadedServerFactory;
-import com.github.ddth.frontapi.internal.thrift.TApi.Iface;
-import com.github.ddth.frontapi.internal.thrift.TApi.Processor;
+import com.github.ddth.frontapi.internal.thrift.ThriftUtils;
 
 public class ThriftApiServer {
 
@@ -23,13 +25,16 @@ public class ThriftApiServer {
     public final static int DEFAULT_THRIFT_MAX_FRAME_SIZE = 1048576;
     public final static long DEFAULT_THRIFT_MAX_READ_BUFFER_SIZE = 16777216;
     public final static int DEFAULT_THRIFT_CLIENT_TIMEOUT = 5000;
+    public final static String DEFAULT_THRIFT_PROTOCOL = ThriftUtils.PROTOCOL_BINARY;
 
     private int port = DEFAULT_THRIFT_SERVER_PORT;
     private boolean nonBlockingServer = true;
     private int clientTimeoutMillisecs = DEFAULT_THRIFT_CLIENT_TIMEOUT;
     private int maxFrameSize = DEFAULT_THRIFT_MAX_FRAME_SIZE;
     private long maxReadBufferSize = DEFAULT_THRIFT_MAX_READ_BUFFER_SIZE;
+    private String protocol = DEFAULT_THRIFT_PROTOCOL;
     private TServer server;
+    private AbstractServerFactory serverFactory;
 
     IApiRegistry apiRegistry;
 
@@ -82,11 +87,35 @@ public class ThriftApiServer {
         return this;
     }
 
+    public String getProtocol() {
+        return protocol;
+    }
+
+    /**
+     * Sets the Thrift protocol ({@code binary} or {@code compact}); clients
+     * must use the same protocol.
+     * 
+     * @param protocol
+     * @return
+     * @since 0.1.4
+     */
+    public ThriftApiServer setProtocol(String protocol) {
+        this.protocol = protocol;
+        return this;
+    }
+
     public void start() {
-        TProcessor processor = new TApi.Processor<TApi.Iface>(new JsonApiHandler(apiRegistry));
-        IServerFactory serverFactory = nonBlockingServer ? new ThreadedSelectorServerFactory(port,
-                processor, clientTimeoutMillisecs, maxFrameSize, maxReadBufferSize)
+        JsonApiHandler handler = new JsonApiHandler(apiRegistry);
+        // non-blocking servers dispatch asynchronously so that IAsyncApis do
+        // not pin worker threads; the threaded server requires a synchronous
+        // processor.
+        TProcessor processor = nonBlockingServer ? new TApi.AsyncProcessor<TApi.AsyncIface>(
+                handler) : new TApi.Processor<TApi.Iface>(handler);
+        AbstractServerFactory serverFactory = nonBlockingServer ? new ThreadedSelectorServerFactory(
+                port, processor, clientTimeoutMillisecs, maxFrameSize, maxReadBufferSize)
                 : new ThreadedServerFactory(port, processor, clientTimeoutMillisecs, maxFrameSize);
+        serverFactory.setProtocolFactory(ThriftUtils.createProtocolFactory(protocol));
+        this.serverFactory = serverFactory;
         _start(serverFactory);
     }
 
@@ -115,6 +144,19 @@ public class ThriftApiServer {
         serverThread.start();
     }
 
+    /**
+     * Worker pool of the running server: its queue holds requests waiting
+     * for a worker.
+     * 
+     * @return {@code null} if the server is not running
+     * @since 0.1.4
+     */
+    public ThreadPoolExecutor getWorkerExecutor() {
+        AbstractServerFactory serverFactory = this.serverFactory;
+        return server != null && serverFactory != null ? serverFactory.getWorkerExecutor()
+                : null;
+    }
+
     public void destroy() {
         if (server != null) {
             server.stop();
@@ -6,6 +6,14 @@ import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.io.IOUtils;
 import org.osgi.framework.ServiceReference;
@@ -15,37 +23,85 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.github.ddth.frontapi.ApiParams;
+import com.github.ddth.frontapi.FrontApiConstants;
 import com.github.ddth.frontapi.IApi;
 import com.github.ddth.frontapi.IApiRegistry;
 import com.github.ddth.frontapi.impl.ApiRegistry;
+import com.github.ddth.frontapi.impl.ApiResultCache;
 import com.github.ddth.frontapi.impl.ApiServlet;
+import com.github.ddth.frontapi.impl.AsyncApiServlet;
+import com.github.ddth.frontapi.impl.MetricsReport;
+import com.github.ddth.frontapi.impl.MetricsServlet;
 import com.github.ddth.frontapi.impl.ThriftApiServer;
 import com.github.ddth.frontapi.osgi.AbstractActivator;
 import com.github.ddth.frontapi.osgi.Constants;
+import com.yammer.metrics.core.MetricsRegistry;
 
 public class Activator extends AbstractActivator {
 
-	public final static String MODULE_NAME = "frontapi";
+	public final static String MODULE_NAME = FrontApiConstants.MODULE_NAME;
 
 	public final static String CONFIG_FILE = "/com/github/ddth/frontapi/frontapi.properties";
+	public final static String PROP_BATCH_NUM_THREADS = "frontapi.batch.num_threads";
+	public final static String PROP_BATCH_QUEUE_SIZE = "frontapi.batch.queue_size";
+	public final static String PROP_BATCH_TIMEOUT = "frontapi.batch.timeout";
+	public final static String PROP_CONCURRENCY_PREFIX = "frontapi.concurrency.";
+	public final static String PROP_TIMEOUT_PREFIX = "frontapi.timeout.";
+	public final static String PROP_TIMED_CALLS_NUM_THREADS = "frontapi.timed_calls.num_threads";
+	public final static String PROP_TIMED_CALLS_QUEUE_SIZE = "frontapi.timed_calls.queue_size";
+	public final static String PROP_CACHE_MAX_ENTRIES = "frontapi.cache.max_entries";
+	public final static String PROP_CACHE_MAX_SERIALIZED_BYTES = "frontapi.cache.max_serialized_bytes";
+	public final static String PROP_METRICS_ENABLED = "frontapi.metrics.enabled";
+	public final static String PROP_METRICS_MAPPING = "frontapi.metrics.mapping";
+	public final static String PROP_METRICS_API_ENABLED = "frontapi.metrics.api.enabled";
 	public final static String PROP_REST_MAPPING = "frontapi.rest.mapping";
+	public final static String PROP_REST_MAX_REQUEST_SIZE = "frontapi.rest.max_request_size";
+	public final static String PROP_REST_ASYNC_ENABLED = "frontapi.rest.async.enabled";
+	public final static String PROP_REST_ASYNC_TIMEOUT = "frontapi.rest.async.timeout";
+	public final static String PROP_REST_ASYNC_NUM_THREADS = "frontapi.rest.async.num_threads";
+	public final static String PROP_REST_ASYNC_QUEUE_SIZE = "frontapi.rest.async.queue_size";
 
 	public final static String PROP_THRIFT_SERVER_ENABLED = "frontapi.thrift.enabled";
 	public final static String PROP_THRIFT_SERVER_PORT = "frontapi.thrift.port";
 	public final static String PROP_THRIFT_MAX_FRAME_SIZE = "frontapi.thrift.max_frame_size";
 	public final static String PROP_THRIFT_MAX_READ_BUFFER_SIZE = "frontapi.thrift.max_read_buffer_size";
 	public final static String PROP_THRIFT_CLIENT_TIMEOUT = "frontapi.thrift.client_timeout";
+	public final static String PROP_THRIFT_PROTOCOL = "frontapi.thrift.protocol";
 
 	private final static String ATTR_MAPPING = "mapping";
 	public final static String DEFAULT_REST_MAPPING = "/api";
 
 	public final static String DEFAULT_THRIFT_SERVER_ENABLED = "false";
 
+	public final static String DEFAULT_REST_ASYNC_ENABLED = "false";
+	public final static int DEFAULT_REST_ASYNC_NUM_THREADS = 32;
+	public final static int DEFAULT_REST_ASYNC_QUEUE_SIZE = 1000;
+
+	public final static int DEFAULT_BATCH_NUM_THREADS = 32;
+	public final static int DEFAULT_BATCH_QUEUE_SIZE = 1000;
+	public final static long DEFAULT_BATCH_TIMEOUT = 30000;
+
+	public final static int DEFAULT_TIMED_CALLS_NUM_THREADS = 64;
+	public final static int DEFAULT_TIMED_CALLS_QUEUE_SIZE = 1000;
+
+	public final static int DEFAULT_CACHE_MAX_ENTRIES = ApiResultCache.DEFAULT_MAX_ENTRIES;
+	public final static long DEFAULT_CACHE_MAX_SERIALIZED_BYTES = ApiResultCache.DEFAULT_MAX_SERIALIZED_BYTES;
+
+	public final static String DEFAULT_METRICS_ENABLED = "true";
+	public final static String DEFAULT_METRICS_MAPPING = "";
+	public final static String DEFAULT_METRICS_API_ENABLED = "false";
+
 	private final Logger LOGGER = LoggerFactory.getLogger(Activator.class);
 
 	private Properties props;
 	private ApiRegistry apiRegistry;
 	private ServiceTracker serviceTracker;
+	private ExecutorService batchExecutor;
+	private ExecutorService timeoutExecutor;
+	private ScheduledExecutorService timeoutScheduler;
+	private MetricsRegistry metricsRegistry;
+	private MetricsReport metricsReport;
+	private ExecutorService restAsyncExecutor;
 	private ThriftApiServer thriftApiServer;
 
 	private void initProperties() throws IOException {
@@ -59,7 +115,47 @@ public class Activator extends AbstractActivator {
 	}
 
 	private void initApiRegistry() {
+		int batchNumThreads = Integer.parseInt(props.getProperty(
+				PROP_BATCH_NUM_THREADS,
+				String.valueOf(DEFAULT_BATCH_NUM_THREADS)));
+		int batchQueueSize = Integer.parseInt(props.getProperty(
+				PROP_BATCH_QUEUE_SIZE, String.valueOf(DEFAULT_BATCH_QUEUE_SIZE)));
+		batchExecutor = createExecutor("FrontApi Batch Worker",
+				batchNumThreads, batchQueueSize);
+		int timedCallsNumThreads = Integer.parseInt(props.getProperty(
+				PROP_TIMED_CALLS_NUM_THREADS,
+				String.valueOf(DEFAULT_TIMED_CALLS_NUM_THREADS)));
+		int timedCallsQueueSize = Integer.parseInt(props.getProperty(
+				PROP_TIMED_CALLS_QUEUE_SIZE,
+				String.valueOf(DEFAULT_TIMED_CALLS_QUEUE_SIZE)));
+		timeoutExecutor = createExecutor("FrontApi Timed Call Worker",
+				timedCallsNumThreads, timedCallsQueueSize);
+		timeoutScheduler = Executors
+				.newSingleThreadScheduledExecutor(createThreadFactory("FrontApi Timeout Scheduler"));
+
 		apiRegistry = new ApiRegistry();
+		long batchTimeout = Long.parseLong(props.getProperty(
+				PROP_BATCH_TIMEOUT, String.valueOf(DEFAULT_BATCH_TIMEOUT)));
+		apiRegistry.setBatchExecutor(batchExecutor)
+				.setBatchTimeout(batchTimeout)
+				.setTimeoutExecutor(timeoutExecutor)
+				.setTimeoutScheduler(timeoutScheduler);
+		int cacheMaxEntries = Integer.parseInt(props.getProperty(
+				PROP_CACHE_MAX_ENTRIES,
+				String.valueOf(DEFAULT_CACHE_MAX_ENTRIES)));
+		long cacheMaxSerializedBytes = Long.parseLong(props.getProperty(
+				PROP_CACHE_MAX_SERIALIZED_BYTES,
+				String.valueOf(DEFAULT_CACHE_MAX_SERIALIZED_BYTES)));
+		if (cacheMaxEntries > 0) {
+			apiRegistry.setResultCache(new ApiResultCache(cacheMaxEntries)
+					.setMaxSerializedBytes(cacheMaxSerializedBytes));
+		}
+		if (Boolean.parseBoolean(props.getProperty(PROP_METRICS_ENABLED,
+				DEFAULT_METRICS_ENABLED))) {
+			metricsRegistry = new MetricsRegistry();
+			apiRegistry.setMetricsRegistry(metricsRegistry);
+		}
+		initApiSettings();
 		apiRegistry.init();
 		Map<String, Object> props = new HashMap<String, Object>();
 		props.put(Constants.LOOKUP_PROP_MODULE, MODULE_NAME);
@@ -71,7 +167,55 @@ public class Activator extends AbstractActivator {
 				return "pong";
 			}
 		};
-		apiRegistry.register(MODULE_NAME, "ping", pingApi);
+		apiRegistry.register(MODULE_NAME, FrontApiConstants.API_PING, pingApi);
+
+		metricsReport = new MetricsReport(apiRegistry).setThreadPool("batch",
+				batchExecutor).setThreadPool("timed_calls", timeoutExecutor);
+		if (Boolean.parseBoolean(this.props.getProperty(PROP_METRICS_API_ENABLED,
+				DEFAULT_METRICS_API_ENABLED))) {
+			IApi metricsApi = new IApi() {
+				@Override
+				public Object call(ApiParams params) throws Exception {
+					return metricsReport.toMap();
+				}
+			};
+			apiRegistry.register(MODULE_NAME, "metrics", metricsApi);
+		}
+	}
+
+	/**
+	 * Reads per-module/per-API settings: {@code <prefix><module>} and
+	 * {@code <prefix><module>/<api>}, e.g.
+	 * {@code frontapi.concurrency.<module>/<api>} (concurrency limits) and
+	 * {@code frontapi.timeout.<module>/<api>} (timeouts).
+	 */
+	private void initApiSettings() {
+		for (String key : props.stringPropertyNames()) {
+			String prefix = key.startsWith(PROP_CONCURRENCY_PREFIX) ? PROP_CONCURRENCY_PREFIX
+					: key.startsWith(PROP_TIMEOUT_PREFIX) ? PROP_TIMEOUT_PREFIX
+							: null;
+			if (prefix == null) {
+				continue;
+			}
+			String target = key.substring(prefix.length());
+			long value;
+			try {
+				value = Long.parseLong(props.getProperty(key).trim());
+			} catch (NumberFormatException e) {
+				LOGGER.warn("Invalid value of [" + key + "]: "
+						+ props.getProperty(key));
+				continue;
+			}
+			int index = target.indexOf('/');
+			String moduleName = index < 0 ? target : target.substring(0, index);
+			String apiName = index < 0 ? null : target.substring(index + 1);
+			if (prefix == PROP_CONCURRENCY_PREFIX) {
+				apiRegistry.setConcurrencyLimit(moduleName, apiName,
+						(int) value);
+			} else {
+				apiRegistry.setTimeout(moduleName, apiName, value);
+			}
+		}
 	}
 
 	private void destroyApiRegistry() {
@@ -79,6 +223,23 @@ public class Activator extends AbstractActivator {
 			apiRegistry.destroy();
 		}
 		apiRegistry = null;
+		if (batchExecutor != null) {
+			batchExecutor.shutdown();
+			batchExecutor = null;
+		}
+		if (timeoutExecutor != null) {
+			timeoutExecutor.shutdownNow();
+			timeoutExecutor = null;
+		}
+		if (timeoutScheduler != null) {
+			timeoutScheduler.shutdownNow();
+			timeoutScheduler = null;
+		}
+		if (metricsRegistry != null) {
+			metricsRegistry.shutdown();
+			metricsRegistry = null;
+		}
+		metricsReport = null;
 	}
 
 	private void initThriftServer() {
@@ -114,11 +275,14 @@ public class Activator extends AbstractActivator {
 					.parseInt(props.getProperty(
 							PROP_THRIFT_CLIENT_TIMEOUT,
 							String.valueOf(ThriftApiServer.DEFAULT_THRIFT_CLIENT_TIMEOUT)));
+			String thriftProtocol = props.getProperty(PROP_THRIFT_PROTOCOL,
+					ThriftApiServer.DEFAULT_THRIFT_PROTOCOL);
 			thriftApiServer.setClientTimeoutMillisecs(thriftClientTimeout)
 					.setMaxFrameSize(thriftMaxFrameSize)
 					.setMaxReadBufferSize(thriftMaxReadBufferSize)
-					.setPort(thriftPort);
+					.setProtocol(thriftProtocol).setPort(thriftPort);
 			thriftApiServer.start();
+			metricsReport.setThriftApiServer(thriftApiServer);
 		} else {
 			LOGGER.info("API Thrift Server disabled.");
 		}
@@ -132,6 +296,35 @@ public class Activator extends AbstractActivator {
 	}
 
 	private void initRestServer() {
+		boolean restAsyncEnabled = false;
+		try {
+			restAsyncEnabled = Boolean.parseBoolean(props.getProperty(
+					PROP_REST_ASYNC_ENABLED, DEFAULT_REST_ASYNC_ENABLED));
+		} catch (Exception e) {
+			restAsyncEnabled = false;
+		}
+		final long restMaxRequestSize = Long.parseLong(props.getProperty(
+				PROP_REST_MAX_REQUEST_SIZE,
+				String.valueOf(ApiServlet.DEFAULT_MAX_REQUEST_SIZE)));
+		final long restAsyncTimeout = Long.parseLong(props.getProperty(
+				PROP_REST_ASYNC_TIMEOUT,
+				String.valueOf(AsyncApiServlet.DEFAULT_ASYNC_TIMEOUT)));
+		if (restAsyncEnabled) {
+			int numThreads = Integer.parseInt(props.getProperty(
+					PROP_REST_ASYNC_NUM_THREADS,
+					String.valueOf(DEFAULT_REST_ASYNC_NUM_THREADS)));
+			int queueSize = Integer.parseInt(props.getProperty(
+					PROP_REST_ASYNC_QUEUE_SIZE,
+					String.valueOf(DEFAULT_REST_ASYNC_QUEUE_SIZE)));
+			restAsyncExecutor = createExecutor("FrontApi REST Worker",
+					numThreads, queueSize);
+			LOGGER.info("API REST async mode enabled, " + numThreads
+					+ " threads, timeout " + restAsyncTimeout + "ms.");
+			metricsReport.setThreadPool("rest_async", restAsyncExecutor);
+		}
+		final String metricsServletMapping = props.getProperty(
+				PROP_METRICS_MAPPING, DEFAULT_METRICS_MAPPING).trim();
+
 		serviceTracker = new ServiceTracker(bundleContext(),
 				HttpService.class.getName(), null) {
 			@SuppressWarnings({ "rawtypes", "unchecked" })
@@ -150,6 +343,18 @@ public class Activator extends AbstractActivator {
 					// Ignore; servlet registration probably failed earlier
 					// on...
 				}
+				if (metricsServletMapping.length() > 0) {
+					try {
+						HttpService service = (HttpService) this.context
+								.getService(reference);
+						if (service != null) {
+							service.unregister(metricsServletMapping);
+						}
+					} catch (IllegalArgumentException exception) {
+						// Ignore; servlet registration probably failed
+						// earlier on...
+					}
+				}
 			}
 
 			@SuppressWarnings({ "rawtypes", "unchecked" })
@@ -162,12 +367,24 @@ public class Activator extends AbstractActivator {
 							PROP_REST_MAPPING, DEFAULT_REST_MAPPING);
 					Hashtable<String, String> props = new Hashtable<String, String>();
 					props.put("mapping", restApiServletMapping);
+					ApiServlet apiServlet = restAsyncExecutor != null ? new AsyncApiServlet(
+							apiRegistry, restApiServletMapping,
+							restAsyncExecutor, restAsyncTimeout)
+							: new ApiServlet(apiRegistry, restApiServletMapping);
+					apiServlet.setMaxRequestSize(restMaxRequestSize);
 					httpService.registerServlet(restApiServletMapping,
-							new ApiServlet(apiRegistry, restApiServletMapping),
-							props, null);
+							apiServlet, props, null);
 				} catch (Exception e) {
 					LOGGER.error(e.getMessage(), e);
 				}
+				if (metricsServletMapping.length() > 0) {
+					try {
+						httpService.registerServlet(metricsServletMapping,
+								new MetricsServlet(metricsReport), null, null);
+					} catch (Exception e) {
+						LOGGER.error(e.getMessage(), e);
+					}
+				}
 				return httpService;
 			}
 		};
@@ -180,6 +397,45 @@ public class Activator extends AbstractActivator {
 			serviceTracker.close();
 			serviceTracker = null;
 		}
+		if (restAsyncExecutor != null) {
+			restAsyncExecutor.shutdown();
+			restAsyncExecutor = null;
+		}
+	}
+
+	/**
+	 * Creates a bounded executor: tasks are rejected once all threads are busy
+	 * and the queue is full.
+	 * 
+	 * @param name
+	 * @param numThreads
+	 * @param queueSize
+	 * @return
+	 */
+	private static ExecutorService createExecutor(String name,
+			int numThreads, int queueSize) {
+		return new ThreadPoolExecutor(numThreads, numThreads, 60,
+				TimeUnit.SECONDS, new ArrayBlockingQueue<Runnable>(queueSize),
+				createThreadFactory(name));
+	}
+
+	/**
+	 * Creates a factory of daemon threads named {@code <name> #<n>}.
+	 * 
+	 * @param name
+	 * @return
+	 */
+	private static ThreadFactory createThreadFactory(final String name) {
+		return new ThreadFactory() {
+			private final AtomicInteger counter = new AtomicInteger(0);
+
+			@Override
+			public Thread newThread(Runnable r) {
+				Thread t = new Thread(r, name + " #" + counter.incrementAndGet());
+				t.setDaemon(true);
+				return t;
+			}
+		};
 	}
 
 	/**
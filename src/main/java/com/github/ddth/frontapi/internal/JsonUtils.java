@@ -1,11 +1,18 @@
 package com.github.ddth.frontapi.internal;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.ddth.frontapi.RawJson;
 
 /**
  * Serialize Java object to JSON-string and vice versa.
@@ -22,14 +29,23 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 public class JsonUtils {
 
     private final static ObjectMapper mapper = new ObjectMapper();
+    private final static ObjectMapper canonicalMapper = new ObjectMapper()
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
 
     /**
      * Serializes an object to Json string.
      * 
+     * <p>
+     * A {@link RawJson} is returned as-is (since v0.1.4).
+     * </p>
+     * 
      * @param obj
      * @return
      */
     public static String toJsonString(Object obj) {
+        if (obj instanceof RawJson) {
+            return ((RawJson) obj).toJsonString();
+        }
         try {
             return obj != null ? mapper.writeValueAsString(obj) : null;
         } catch (JsonProcessingException e) {
@@ -37,6 +53,66 @@ public class JsonUtils {
         }
     }
 
+    /**
+     * Serializes an object to canonical Json string: map entries are sorted by
+     * keys, so that equal maps always serialize to the same string. A
+     * {@link RawJson} is parsed (and its parsed value canonicalized).
+     * 
+     * @param obj
+     * @return
+     * @since 0.1.4
+     */
+    public static String toCanonicalJsonString(Object obj) {
+        try {
+            return canonicalMapper.writeValueAsString(obj instanceof RawJson ? ((RawJson) obj)
+                    .getValue() : obj);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Serializes an object to UTF-8 encoded Json data; a {@link RawJson} is
+     * returned as-is.
+     * 
+     * @param obj
+     * @return
+     * @since 0.1.4
+     */
+    public static byte[] toJsonBytes(Object obj) {
+        if (obj instanceof RawJson) {
+            return ((RawJson) obj).toJsonBytes();
+        }
+        try {
+            return obj != null ? mapper.writeValueAsBytes(obj) : null;
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Serializes an object as UTF-8 encoded Json directly to an output stream,
+     * without building an intermediate string.
+     * 
+     * <p>
+     * The output stream is left open.
+     * </p>
+     * 
+     * @param os
+     * @param obj
+     * @throws IOException
+     * @since 0.1.4
+     */
+    public static void writeJson(OutputStream os, Object obj) throws IOException {
+        JsonGenerator generator = mapper.getFactory().createGenerator(os, JsonEncoding.UTF8);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        try {
+            mapper.writeValue(generator, obj);
+        } finally {
+            generator.close();
+        }
+    }
+
     /**
      * Deserializes a Json string.
      * 
@@ -65,4 +141,55 @@ public class JsonUtils {
     public static Object fromJsonString(String jsonString) {
         return fromJsonString(jsonString, Object.class);
     }
+
+    /**
+     * Deserializes UTF-8 encoded Json data.
+     * 
+     * @param data
+     * @return
+     * @since 0.1.4
+     */
+    public static Object fromJsonBytes(byte[] data) {
+        try {
+            return data != null && data.length > 0 ? mapper.readValue(data, Object.class) : null;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Deserializes Json data directly from an input stream, without buffering
+     * the whole input in memory.
+     * 
+     * @param is
+     * @return the deserialized object, or {@code null} if the stream is empty
+     * @throws IOException
+     *             if the stream can not be read or does not contain valid
+     *             Json data
+     * @since 0.1.4
+     */
+    public static Object fromJsonStream(InputStream is) throws IOException {
+        return fromJsonStream(is, Object.class);
+    }
+
+    /**
+     * Deserializes Json data directly from an input stream, without buffering
+     * the whole input in memory.
+     * 
+     * @param is
+     * @param clazz
+     * @return the deserialized object, or {@code null} if the stream is empty
+     * @throws IOException
+     *             if the stream can not be read or does not contain valid
+     *             Json data
+     * @since 0.1.4
+     */
+    public static <T> T fromJsonStream(InputStream is, Class<T> clazz) throws IOException {
+        JsonParser parser = mapper.getFactory().createParser(is);
+        try {
+            return parser.nextToken() != null ? mapper.readValue(parser, clazz) : null;
+        } finally {
+            parser.close();
+        }
+    }
 }
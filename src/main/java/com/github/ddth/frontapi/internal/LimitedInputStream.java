@@ -0,0 +1,52 @@
+package com.github.ddth.frontapi.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.apache.commons.io.input.ProxyInputStream;
+
+/**
+ * {@link InputStream} that fails with {@link LimitExceededException} once more
+ * than a maximum number of bytes have been read from the underlying stream.
+ *
+ * @author Thanh Ba Nguyen <btnguyen2k@gmail.com>
+ * @since 0.1.4
+ */
+public class LimitedInputStream extends ProxyInputStream {
+
+    /**
+     * Thrown when the stream has more bytes than allowed.
+     */
+    public static class LimitExceededException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        public LimitExceededException(long maxBytes) {
+            super("Input exceeds " + maxBytes + " bytes!");
+        }
+    }
+
+    private final long maxBytes;
+    private long count = 0;
+
+    public LimitedInputStream(InputStream in, long maxBytes) {
+        super(in);
+        this.maxBytes = maxBytes;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void afterRead(int n) throws IOException {
+        if (n > 0) {
+            count += n;
+            if (count > maxBytes) {
+                throw new LimitExceededException(maxBytes);
+            }
+        }
+    }
+}
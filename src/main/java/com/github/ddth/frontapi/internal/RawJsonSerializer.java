@@ -0,0 +1,151 @@
+package com.github.ddth.frontapi.internal;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+import com.fasterxml.jackson.core.json.UTF8JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.github.ddth.frontapi.RawJson;
+
+/**
+ * Serializes a {@link RawJson}: written verbatim to Json, parsed and
+ * serialized as a regular value to other formats (e.g. Smile).
+ *
+ * <ul>
+ * <li>UTF-8 byte generators (Json bytes/streams): the raw bytes are written
+ * as-is, copied into the generator's buffer (small data) or straight to the
+ * output stream, without being decoded. A {@code RawJson} built from a string
+ * is encoded once (and the bytes are kept).</li>
+ * <li>Character generators (Json strings): the data must be written as chars;
+ * a {@code RawJson} built from bytes is decoded once (and the string is
+ * kept).</li>
+ * <li>Other formats: the data is parsed, there is no way around it.</li>
+ * </ul>
+ *
+ * @author Thanh Ba Nguyen <btnguyen2k@gmail.com>
+ * @since 0.1.4
+ */
+public class RawJsonSerializer extends JsonSerializer<RawJson> {
+
+    private final static Charset UTF8 = Charset.forName("UTF-8");
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void serialize(RawJson value, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+        if (generator instanceof UTF8JsonGenerator) {
+            // writeRawValue takes care of separators (there is no byte[]
+            // version), the bytes are then appended as-is
+            generator.writeRawValue("");
+            generator.writeRaw(new RawUtf8(value.toJsonBytes()));
+        } else if (generator instanceof JsonGeneratorImpl) {
+            generator.writeRawValue(value.toJsonString());
+        } else {
+            provider.defaultSerializeValue(value.getValue(), generator);
+        }
+    }
+
+    /**
+     * Exposes UTF-8 encoded data as a {@link SerializableString}, for
+     * {@link JsonGenerator#writeRaw(SerializableString)} which only reads the
+     * unquoted UTF-8 form; other forms are derived from the decoded string.
+     */
+    private static class RawUtf8 implements SerializableString {
+        private final byte[] data;
+        private SerializedString string;
+
+        public RawUtf8(byte[] data) {
+            this.data = data;
+        }
+
+        private SerializedString string() {
+            if (string == null) {
+                string = new SerializedString(new String(data, UTF8));
+            }
+            return string;
+        }
+
+        @Override
+        public byte[] asUnquotedUTF8() {
+            return data;
+        }
+
+        @Override
+        public int appendUnquotedUTF8(byte[] buffer, int offset) {
+            if (offset + data.length > buffer.length) {
+                return -1;
+            }
+            System.arraycopy(data, 0, buffer, offset, data.length);
+            return data.length;
+        }
+
+        @Override
+        public int writeUnquotedUTF8(OutputStream out) throws IOException {
+            out.write(data);
+            return data.length;
+        }
+
+        @Override
+        public int putUnquotedUTF8(ByteBuffer buffer) throws IOException {
+            if (data.length > buffer.remaining()) {
+                return -1;
+            }
+            buffer.put(data);
+            return data.length;
+        }
+
+        @Override
+        public String getValue() {
+            return string().getValue();
+        }
+
+        @Override
+        public int charLength() {
+            return string().charLength();
+        }
+
+        @Override
+        public char[] asQuotedChars() {
+            return string().asQuotedChars();
+        }
+
+        @Override
+        public byte[] asQuotedUTF8() {
+            return string().asQuotedUTF8();
+        }
+
+        @Override
+        public int appendQuotedUTF8(byte[] buffer, int offset) {
+            return string().appendQuotedUTF8(buffer, offset);
+        }
+
+        @Override
+        public int appendQuoted(char[] buffer, int offset) {
+            return string().appendQuoted(buffer, offset);
+        }
+
+        @Override
+        public int appendUnquoted(char[] buffer, int offset) {
+            return string().appendUnquoted(buffer, offset);
+        }
+
+        @Override
+        public int writeQuotedUTF8(OutputStream out) throws IOException {
+            return string().writeQuotedUTF8(out);
+        }
+
+        @Override
+        public int putQuotedUTF8(ByteBuffer buffer) throws IOException {
+            return string().putQuotedUTF8(buffer);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.github.ddth.frontapi.internal;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Serialize Java object to <a
+ * href="http://wiki.fasterxml.com/SmileFormatSpec">Smile</a> (binary Json)
+ * data and vice versa.
+ * 
+ * <p>
+ * Smile data is more compact and faster to (de)serialize than Json string.
+ * </p>
+ * 
+ * @author Thanh Ba Nguyen <btnguyen2k@gmail.com>
+ * @since 0.1.4
+ */
+public class SmileUtils {
+
+    private final static ObjectMapper mapper = new ObjectMapper(new SmileFactory());
+
+    /**
+     * Serializes an object to Smile data.
+     * 
+     * @param obj
+     * @return
+     */
+    public static byte[] toSmile(Object obj) {
+        try {
+            return obj != null ? mapper.writeValueAsBytes(obj) : null;
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Deserializes Smile data.
+     * 
+     * @param data
+     * @return
+     */
+    public static Object fromSmile(byte[] data) {
+        try {
+            return data != null && data.length > 0 ? mapper.readValue(data, Object.class) : null;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
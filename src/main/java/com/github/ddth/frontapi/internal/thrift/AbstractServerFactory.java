@@ -1,7 +1,11 @@
 package com.github.ddth.frontapi.internal.thrift;
 
+import java.util.concurrent.ThreadPoolExecutor;
+
 import org.apache.thrift.TProcessor;
 import org.apache.thrift.TProcessorFactory;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TProtocolFactory;
 
 /**
  * Abstract implementation of {@link IServerFactory}.
@@ -15,6 +19,8 @@ public abstract class AbstractServerFactory implements IServerFactory {
     private int clientTimeoutMillisecs;
     private int maxFrameSize;
     private TProcessorFactory processorFactory;
+    private TProtocolFactory protocolFactory = new TBinaryProtocol.Factory();
+    private volatile ThreadPoolExecutor workerExecutor;
 
     public AbstractServerFactory(int port, TProcessor processor, int clientTimeoutMillisecs,
             int maxFrameSize) {
@@ -59,4 +65,29 @@ public abstract class AbstractServerFactory implements IServerFactory {
         this.processorFactory = processorFactory;
         return this;
     }
+
+    protected TProtocolFactory getProtocolFactory() {
+        return protocolFactory;
+    }
+
+    public AbstractServerFactory setProtocolFactory(TProtocolFactory protocolFactory) {
+        this.protocolFactory = protocolFactory;
+        return this;
+    }
+
+    /**
+     * Worker pool of the last server created by this factory, {@code null}
+     * if the server manages its workers itself.
+     * 
+     * @return
+     * @since 0.1.4
+     */
+    public ThreadPoolExecutor getWorkerExecutor() {
+        return workerExecutor;
+    }
+
+    protected AbstractServerFactory setWorkerExecutor(ThreadPoolExecutor workerExecutor) {
+        this.workerExecutor = workerExecutor;
+        return this;
+    }
 }
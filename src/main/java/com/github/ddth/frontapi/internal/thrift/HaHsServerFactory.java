@@ -24,8 +24,9 @@ public class HaHsServerFactory extends AbstractServerFactory {
      */
     @Override
     public TServer createServer() throws TTransportException {
-        TServer server = ThriftUtils.createHaHsServer(getProcessorFactory(), getPort(),
-                getClientTimeoutMillisecs(), getMaxFrameSize(), maxReadBufferSize);
+        TServer server = ThriftUtils.createHaHsServer(getProcessorFactory(),
+                getProtocolFactory(), getPort(), getClientTimeoutMillisecs(), getMaxFrameSize(),
+                maxReadBufferSize);
         return server;
     }
 }
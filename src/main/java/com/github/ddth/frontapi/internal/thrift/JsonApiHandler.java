@@ -1,12 +1,25 @@
 package com.github.ddth.frontapi.internal.thrift;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
 import org.apache.thrift.TException;
+import org.apache.thrift.TBaseHelper;
+import org.apache.thrift.async.AsyncMethodCallback;
 
+import com.github.ddth.frontapi.ApiCall;
+import com.github.ddth.frontapi.ApiFuture;
 import com.github.ddth.frontapi.ApiResult;
+import com.github.ddth.frontapi.IApi;
+import com.github.ddth.frontapi.IApiCallback;
+import com.github.ddth.frontapi.IApiHandle;
 import com.github.ddth.frontapi.IApiRegistry;
+import com.github.ddth.frontapi.RawJson;
+import com.github.ddth.frontapi.impl.CachedApiResult;
 import com.github.ddth.frontapi.internal.JsonUtils;
 
-public class JsonApiHandler implements TApi.Iface {
+public class JsonApiHandler implements TApi.Iface, TApi.AsyncIface {
 
     private IApiRegistry apiRegistry;
 
@@ -14,16 +27,281 @@ public class JsonApiHandler implements TApi.Iface {
         this.apiRegistry = apiRegistry;
     }
 
+    private static TApiResult toTApiResult(ApiResult apiResult) {
+        if (apiResult instanceof CachedApiResult) {
+            return new TApiResult(apiResult.getStatus(),
+                    ((CachedApiResult) apiResult).outputToJsonString());
+        }
+        return new TApiResult(apiResult.getStatus(), JsonUtils.toJsonString(apiResult.getOutput()));
+    }
+
+    private static TApiBinaryResult toTApiBinaryResult(TDataEncoding encoding,
+            ApiResult apiResult) {
+        if (apiResult instanceof CachedApiResult && encoding != null) {
+            // cached result: reuse its already serialized output
+            CachedApiResult cached = (CachedApiResult) apiResult;
+            byte[] data = encoding == TDataEncoding.SMILE ? cached.outputToSmile() : cached
+                    .outputToJsonBytes();
+            return new TApiBinaryResult(apiResult.getStatus(), data != null ? ByteBuffer
+                    .wrap(data) : null);
+        }
+        return new TApiBinaryResult(apiResult.getStatus(), ThriftUtils.encode(encoding,
+                apiResult.getOutput()));
+    }
+
+    private static List<TApiResult> toTApiResults(List<ApiResult> apiResults) {
+        List<TApiResult> result = new ArrayList<TApiResult>(apiResults.size());
+        for (ApiResult apiResult : apiResults) {
+            result.add(toTApiResult(apiResult));
+        }
+        return result;
+    }
+
+    /**
+     * Converts Thrift batch calls to {@link ApiCall}s; calls whose input can
+     * not be decoded are converted to {@code null} (and will be answered with
+     * status 400).
+     * 
+     * @param calls
+     * @return
+     */
+    private static List<ApiCall> toApiCalls(List<TApiCall> calls) {
+        List<ApiCall> result = new ArrayList<ApiCall>(calls != null ? calls.size() : 0);
+        if (calls != null) {
+            for (TApiCall call : calls) {
+                ApiCall apiCall = null;
+                try {
+                    apiCall = call != null ? new ApiCall(call.moduleName, call.apiName,
+                            JsonUtils.fromJsonString(call.jsonInput)) : null;
+                } catch (Exception e) {
+                    apiCall = null;
+                }
+                result.add(apiCall);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Converts Json input to API's params: passed as-is to APIs that take raw
+     * Json, parsed for other APIs.
+     * 
+     * @param handle
+     *            the resolved API, {@code null} if not found
+     * @param jsonInput
+     * @return
+     */
+    private static Object toApiParams(IApiHandle handle, String jsonInput) {
+        if (jsonInput != null && jsonInput.length() > 0 && handle != null
+                && handle.isRawJsonInput()) {
+            return new RawJson(jsonInput);
+        }
+        return JsonUtils.fromJsonString(jsonInput);
+    }
+
+    /**
+     * Converts binary input to API's params: Json data is passed as-is to APIs
+     * that take raw Json, other input is decoded.
+     * 
+     * @param handle
+     *            the resolved API, {@code null} if not found
+     * @param encoding
+     * @param input
+     * @return
+     */
+    private static Object toApiParams(IApiHandle handle, TDataEncoding encoding,
+            ByteBuffer input) {
+        if (encoding == TDataEncoding.JSON && input != null && input.hasRemaining()
+                && handle != null && handle.isRawJsonInput()) {
+            return new RawJson(TBaseHelper.byteBufferToByteArray(input));
+        }
+        return ThriftUtils.decode(encoding, input);
+    }
+
+    /**
+     * Calls the API through its resolved handle, so that input is converted
+     * and dispatched according to the same registration; calls to APIs that
+     * are not found go to the registry (which answers them).
+     * 
+     * @param handle
+     * @param moduleName
+     * @param apiName
+     * @param authKey
+     * @param apiParams
+     * @param timeoutMillisecs
+     * @return
+     */
+    private ApiResult call(IApiHandle handle, String moduleName, String apiName, String authKey,
+            Object apiParams, long timeoutMillisecs) {
+        return handle != null ? handle.call(authKey, apiParams, timeoutMillisecs) : apiRegistry
+                .callApi(moduleName, apiName, authKey, apiParams, timeoutMillisecs);
+    }
+
+    /**
+     * Async version of
+     * {@link #call(IApiHandle, String, String, String, Object, long)}.
+     */
+    private ApiFuture<ApiResult> callAsync(IApiHandle handle, String moduleName, String apiName,
+            String authKey, Object apiParams, long timeoutMillisecs) {
+        return handle != null ? handle.callAsync(authKey, apiParams, timeoutMillisecs)
+                : apiRegistry.callApiAsync(moduleName, apiName, authKey, apiParams,
+                        timeoutMillisecs);
+    }
+
+    /**
+     * Builds the result for input that can not be decoded.
+     * 
+     * @param encoding
+     * @param e
+     * @return
+     */
+    private static TApiBinaryResult badInput(TDataEncoding encoding, Exception e) {
+        ApiResult apiResult = new ApiResult(IApi.STATUS_BAD_REQUEST, e.getMessage());
+        return toTApiBinaryResult(encoding != null ? encoding : TDataEncoding.JSON, apiResult);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
-    public TApiResult callApi(String authKey, String moduleName, String apiName, String jsonInput)
-            throws TException {
-        Object apiParams = JsonUtils.fromJsonString(jsonInput);
-        ApiResult apiResult = apiRegistry.callApi(moduleName, apiName, authKey, apiParams);
-        TApiResult result = new TApiResult(apiResult.getStatus(), JsonUtils.toJsonString(apiResult
-                .getOutput()));
-        return result;
+    public TApiResult callApi(String authKey, String moduleName, String apiName,
+            String jsonInput, long timeoutMillisecs) throws TException {
+        IApiHandle handle = apiRegistry.resolve(moduleName, apiName);
+        Object apiParams = toApiParams(handle, jsonInput);
+        ApiResult apiResult = call(handle, moduleName, apiName, authKey, apiParams,
+                timeoutMillisecs);
+        return toTApiResult(apiResult);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 0.1.4
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    @Override
+    public void callApi(String authKey, String moduleName, String apiName, String jsonInput,
+            long timeoutMillisecs, final AsyncMethodCallback resultHandler) throws TException {
+        IApiHandle handle = apiRegistry.resolve(moduleName, apiName);
+        Object apiParams = toApiParams(handle, jsonInput);
+        callAsync(handle, moduleName, apiName, authKey, apiParams, timeoutMillisecs)
+                .addCallback(new IApiCallback<ApiResult>() {
+                    @Override
+                    public void onComplete(ApiResult apiResult) {
+                        TApiResult result;
+                        try {
+                            result = toTApiResult(apiResult);
+                        } catch (Exception e) {
+                            resultHandler.onError(e);
+                            return;
+                        }
+                        resultHandler.onComplete(result);
+                    }
+
+                    @Override
+                    public void onError(Exception e) {
+                        resultHandler.onError(e);
+                    }
+                });
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 0.1.4
+     */
+    @Override
+    public TApiBinaryResult callApiBinary(String authKey, String moduleName, String apiName,
+            TDataEncoding encoding, ByteBuffer input, long timeoutMillisecs) throws TException {
+        IApiHandle handle = apiRegistry.resolve(moduleName, apiName);
+        Object apiParams;
+        try {
+            apiParams = toApiParams(handle, encoding, input);
+        } catch (Exception e) {
+            return badInput(encoding, e);
+        }
+        ApiResult apiResult = call(handle, moduleName, apiName, authKey, apiParams,
+                timeoutMillisecs);
+        return toTApiBinaryResult(encoding, apiResult);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 0.1.4
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    @Override
+    public void callApiBinary(String authKey, String moduleName, String apiName,
+            final TDataEncoding encoding, ByteBuffer input, long timeoutMillisecs,
+            final AsyncMethodCallback resultHandler) throws TException {
+        IApiHandle handle = apiRegistry.resolve(moduleName, apiName);
+        Object apiParams;
+        try {
+            apiParams = toApiParams(handle, encoding, input);
+        } catch (Exception e) {
+            resultHandler.onComplete(badInput(encoding, e));
+            return;
+        }
+        callAsync(handle, moduleName, apiName, authKey, apiParams, timeoutMillisecs)
+                .addCallback(new IApiCallback<ApiResult>() {
+                    @Override
+                    public void onComplete(ApiResult apiResult) {
+                        TApiBinaryResult result;
+                        try {
+                            result = toTApiBinaryResult(encoding, apiResult);
+                        } catch (Exception e) {
+                            resultHandler.onError(e);
+                            return;
+                        }
+                        resultHandler.onComplete(result);
+                    }
+
+                    @Override
+                    public void onError(Exception e) {
+                        resultHandler.onError(e);
+                    }
+                });
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 0.1.4
+     */
+    @Override
+    public List<TApiResult> callApis(String authKey, List<TApiCall> calls) throws TException {
+        List<ApiResult> apiResults = apiRegistry.callApis(authKey, toApiCalls(calls));
+        return toTApiResults(apiResults);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 0.1.4
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    @Override
+    public void callApis(String authKey, List<TApiCall> calls,
+            final AsyncMethodCallback resultHandler) throws TException {
+        apiRegistry.callApisAsync(authKey, toApiCalls(calls)).addCallback(
+                new IApiCallback<List<ApiResult>>() {
+                    @Override
+                    public void onComplete(List<ApiResult> apiResults) {
+                        List<TApiResult> result;
+                        try {
+                            result = toTApiResults(apiResults);
+                        } catch (Exception e) {
+                            resultHandler.onError(e);
+                            return;
+                        }
+                        resultHandler.onComplete(result);
+                    }
+
+                    @Override
+                    public void onError(Exception e) {
+                        resultHandler.onError(e);
+                    }
+                });
     }
 }
@@ -24,8 +24,9 @@ public class NonBlockingServerFactory extends AbstractServerFactory {
      */
     @Override
     public TServer createServer() throws TTransportException {
-        TServer server = ThriftUtils.createNonBlockingServer(getProcessorFactory(), getPort(),
-                getClientTimeoutMillisecs(), getMaxFrameSize(), maxReadBufferSize);
+        TServer server = ThriftUtils.createNonBlockingServer(getProcessorFactory(),
+                getProtocolFactory(), getPort(), getClientTimeoutMillisecs(), getMaxFrameSize(),
+                maxReadBufferSize);
         return server;
     }
 }
\ No newline at end of file
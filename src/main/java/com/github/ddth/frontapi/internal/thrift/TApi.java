@@ -36,13 +36,21 @@ public class TApi {
 
   public interface Iface {
 
-    public TApiResult callApi(String authKey, String moduleName, String apiName, String jsonInput) throws org.apache.thrift.TException;
+    public TApiResult callApi(String authKey, String moduleName, String apiName, String jsonInput, long timeoutMillisecs) throws org.apache.thrift.TException;
+
+    public TApiBinaryResult callApiBinary(String authKey, String moduleName, String apiName, TDataEncoding encoding, ByteBuffer input, long timeoutMillisecs) throws org.apache.thrift.TException;
+
+    public List<TApiResult> callApis(String authKey, List<TApiCall> calls) throws org.apache.thrift.TException;
 
   }
 
   public interface AsyncIface {
 
-    public void callApi(String authKey, String moduleName, String apiName, String jsonInput, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+    public void callApi(String authKey, String moduleName, String apiName, String jsonInput, long timeoutMillisecs, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void callApiBinary(String authKey, String moduleName, String apiName, TDataEncoding encoding, ByteBuffer input, long timeoutMillisecs, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void callApis(String authKey, List<TApiCall> calls, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
   }
 
@@ -66,19 +74,20 @@ public class TApi {
       super(iprot, oprot);
     }
 
-    public TApiResult callApi(String authKey, String moduleName, String apiName, String jsonInput) throws org.apache.thrift.TException
+    public TApiResult callApi(String authKey, String moduleName, String apiName, String jsonInput, long timeoutMillisecs) throws org.apache.thrift.TException
     {
-      send_callApi(authKey, moduleName, apiName, jsonInput);
+      send_callApi(authKey, moduleName, apiName, jsonInput, timeoutMillisecs);
       return recv_callApi();
     }
 
-    public void send_callApi(String authKey, String moduleName, String apiName, String jsonInput) throws org.apache.thrift.TException
+    public void send_callApi(String authKey, String moduleName, String apiName, String jsonInput, long timeoutMillisecs) throws org.apache.thrift.TException
     {
       callApi_args args = new callApi_args();
       args.setAuthKey(authKey);
       args.setModuleName(moduleName);
       args.setApiName(apiName);
       args.setJsonInput(jsonInput);
+      args.setTimeoutMillisecs(timeoutMillisecs);
       sendBase("callApi", args);
     }
 
@@ -92,6 +101,58 @@ public class TApi {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "callApi failed: unknown result");
     }
 
+    public TApiBinaryResult callApiBinary(String authKey, String moduleName, String apiName, TDataEncoding encoding, ByteBuffer input, long timeoutMillisecs) throws org.apache.thrift.TException
+    {
+      send_callApiBinary(authKey, moduleName, apiName, encoding, input, timeoutMillisecs);
+      return recv_callApiBinary();
+    }
+
+    public void send_callApiBinary(String authKey, String moduleName, String apiName, TDataEncoding encoding, ByteBuffer input, long timeoutMillisecs) throws org.apache.thrift.TException
+    {
+      callApiBinary_args args = new callApiBinary_args();
+      args.setAuthKey(authKey);
+      args.setModuleName(moduleName);
+      args.setApiName(apiName);
+      args.setEncoding(encoding);
+      args.setInput(input);
+      args.setTimeoutMillisecs(timeoutMillisecs);
+      sendBase("callApiBinary", args);
+    }
+
+    public TApiBinaryResult recv_callApiBinary() throws org.apache.thrift.TException
+    {
+      callApiBinary_result result = new callApiBinary_result();
+      receiveBase(result, "callApiBinary");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "callApiBinary failed: unknown result");
+    }
+
+    public List<TApiResult> callApis(String authKey, List<TApiCall> calls) throws org.apache.thrift.TException
+    {
+      send_callApis(authKey, calls);
+      return recv_callApis();
+    }
+
+    public void send_callApis(String authKey, List<TApiCall> calls) throws org.apache.thrift.TException
+    {
+      callApis_args args = new callApis_args();
+      args.setAuthKey(authKey);
+      args.setCalls(calls);
+      sendBase("callApis", args);
+    }
+
+    public List<TApiResult> recv_callApis() throws org.apache.thrift.TException
+    {
+      callApis_result result = new callApis_result();
+      receiveBase(result, "callApis");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "callApis failed: unknown result");
+    }
+
   }
   public static class AsyncClient extends org.apache.thrift.async.TAsyncClient implements AsyncIface {
     public static class Factory implements org.apache.thrift.async.TAsyncClientFactory<AsyncClient> {
@@ -110,9 +171,9 @@ public class TApi {
       super(protocolFactory, clientManager, transport);
     }
 
-    public void callApi(String authKey, String moduleName, String apiName, String jsonInput, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+    public void callApi(String authKey, String moduleName, String apiName, String jsonInput, long timeoutMillisecs, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
-      callApi_call method_call = new callApi_call(authKey, moduleName, apiName, jsonInput, resultHandler, this, ___protocolFactory, ___transport);
+      callApi_call method_call = new callApi_call(authKey, moduleName, apiName, jsonInput, timeoutMillisecs, resultHandler, this, ___protocolFactory, ___transport);
       this.___currentMethod = method_call;
       ___manager.call(method_call);
     }
@@ -122,12 +183,14 @@ public class TApi {
       private String moduleName;
       private String apiName;
       private String jsonInput;
-      public callApi_call(String authKey, String moduleName, String apiName, String jsonInput, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+      private long timeoutMillisecs;
+      public callApi_call(String authKey, String moduleName, String apiName, String jsonInput, long timeoutMillisecs, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
         super(client, protocolFactory, transport, resultHandler, false);
         this.authKey = authKey;
         this.moduleName = moduleName;
         this.apiName = apiName;
         this.jsonInput = jsonInput;
+        this.timeoutMillisecs = timeoutMillisecs;
       }
 
       public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
@@ -137,6 +200,7 @@ public class TApi {
         args.setModuleName(moduleName);
         args.setApiName(apiName);
         args.setJsonInput(jsonInput);
+        args.setTimeoutMillisecs(timeoutMillisecs);
         args.write(prot);
         prot.writeMessageEnd();
       }
@@ -151,6 +215,88 @@ public class TApi {
       }
     }
 
+    public void callApiBinary(String authKey, String moduleName, String apiName, TDataEncoding encoding, ByteBuffer input, long timeoutMillisecs, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      callApiBinary_call method_call = new callApiBinary_call(authKey, moduleName, apiName, encoding, input, timeoutMillisecs, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class callApiBinary_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String authKey;
+      private String moduleName;
+      private String apiName;
+      private TDataEncoding encoding;
+      private ByteBuffer input;
+      private long timeoutMillisecs;
+      public callApiBinary_call(String authKey, String moduleName, String apiName, TDataEncoding encoding, ByteBuffer input, long timeoutMillisecs, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.authKey = authKey;
+        this.moduleName = moduleName;
+        this.apiName = apiName;
+        this.encoding = encoding;
+        this.input = input;
+        this.timeoutMillisecs = timeoutMillisecs;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("callApiBinary", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        callApiBinary_args args = new callApiBinary_args();
+        args.setAuthKey(authKey);
+        args.setModuleName(moduleName);
+        args.setApiName(apiName);
+        args.setEncoding(encoding);
+        args.setInput(input);
+        args.setTimeoutMillisecs(timeoutMillisecs);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public TApiBinaryResult getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_callApiBinary();
+      }
+    }
+
+    public void callApis(String authKey, List<TApiCall> calls, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      callApis_call method_call = new callApis_call(authKey, calls, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class callApis_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String authKey;
+      private List<TApiCall> calls;
+      public callApis_call(String authKey, List<TApiCall> calls, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.authKey = authKey;
+        this.calls = calls;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("callApis", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        callApis_args args = new callApis_args();
+        args.setAuthKey(authKey);
+        args.setCalls(calls);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public List<TApiResult> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_callApis();
+      }
+    }
+
   }
 
   public static class Processor<I extends Iface> extends org.apache.thrift.TBaseProcessor<I> implements org.apache.thrift.TProcessor {
@@ -165,6 +311,8 @@ public class TApi {
 
     private static <I extends Iface> Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> getProcessMap(Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
       processMap.put("callApi", new callApi());
+      processMap.put("callApiBinary", new callApiBinary());
+      processMap.put("callApis", new callApis());
       return processMap;
     }
 
@@ -183,7 +331,47 @@ public class TApi {
 
       public callApi_result getResult(I iface, callApi_args args) throws org.apache.thrift.TException {
         callApi_result result = new callApi_result();
-        result.success = iface.callApi(args.authKey, args.moduleName, args.apiName, args.jsonInput);
+        result.success = iface.callApi(args.authKey, args.moduleName, args.apiName, args.jsonInput, args.timeoutMillisecs);
+        return result;
+      }
+    }
+
+    public static class callApiBinary<I extends Iface> extends org.apache.thrift.ProcessFunction<I, callApiBinary_args> {
+      public callApiBinary() {
+        super("callApiBinary");
+      }
+
+      public callApiBinary_args getEmptyArgsInstance() {
+        return new callApiBinary_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public callApiBinary_result getResult(I iface, callApiBinary_args args) throws org.apache.thrift.TException {
+        callApiBinary_result result = new callApiBinary_result();
+        result.success = iface.callApiBinary(args.authKey, args.moduleName, args.apiName, args.encoding, args.input, args.timeoutMillisecs);
+        return result;
+      }
+    }
+
+    public static class callApis<I extends Iface> extends org.apache.thrift.ProcessFunction<I, callApis_args> {
+      public callApis() {
+        super("callApis");
+      }
+
+      public callApis_args getEmptyArgsInstance() {
+        return new callApis_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public callApis_result getResult(I iface, callApis_args args) throws org.apache.thrift.TException {
+        callApis_result result = new callApis_result();
+        result.success = iface.callApis(args.authKey, args.calls);
         return result;
       }
     }
@@ -202,6 +390,8 @@ public class TApi {
 
     private static <I extends AsyncIface> Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase,?>> getProcessMap(Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
       processMap.put("callApi", new callApi());
+      processMap.put("callApiBinary", new callApiBinary());
+      processMap.put("callApis", new callApis());
       return processMap;
     }
 
@@ -252,7 +442,109 @@ public class TApi {
       }
 
       public void start(I iface, callApi_args args, org.apache.thrift.async.AsyncMethodCallback<TApiResult> resultHandler) throws TException {
-        iface.callApi(args.authKey, args.moduleName, args.apiName, args.jsonInput,resultHandler);
+        iface.callApi(args.authKey, args.moduleName, args.apiName, args.jsonInput, args.timeoutMillisecs,resultHandler);
+      }
+    }
+
+    public static class callApiBinary<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, callApiBinary_args, TApiBinaryResult> {
+      public callApiBinary() {
+        super("callApiBinary");
+      }
+
+      public callApiBinary_args getEmptyArgsInstance() {
+        return new callApiBinary_args();
+      }
+
+      public AsyncMethodCallback<TApiBinaryResult> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<TApiBinaryResult>() { 
+          public void onComplete(TApiBinaryResult o) {
+            callApiBinary_result result = new callApiBinary_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            callApiBinary_result result = new callApiBinary_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, callApiBinary_args args, org.apache.thrift.async.AsyncMethodCallback<TApiBinaryResult> resultHandler) throws TException {
+        iface.callApiBinary(args.authKey, args.moduleName, args.apiName, args.encoding, args.input, args.timeoutMillisecs,resultHandler);
+      }
+    }
+
+    public static class callApis<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, callApis_args, List<TApiResult>> {
+      public callApis() {
+        super("callApis");
+      }
+
+      public callApis_args getEmptyArgsInstance() {
+        return new callApis_args();
+      }
+
+      public AsyncMethodCallback<List<TApiResult>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<List<TApiResult>>() { 
+          public void onComplete(List<TApiResult> o) {
+            callApis_result result = new callApis_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            callApis_result result = new callApis_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, callApis_args args, org.apache.thrift.async.AsyncMethodCallback<List<TApiResult>> resultHandler) throws TException {
+        iface.callApis(args.authKey, args.calls,resultHandler);
       }
     }
 
@@ -265,6 +557,7 @@ public class TApi {
     private static final org.apache.thrift.protocol.TField MODULE_NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("moduleName", org.apache.thrift.protocol.TType.STRING, (short)2);
     private static final org.apache.thrift.protocol.TField API_NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("apiName", org.apache.thrift.protocol.TType.STRING, (short)3);
     private static final org.apache.thrift.protocol.TField JSON_INPUT_FIELD_DESC = new org.apache.thrift.protocol.TField("jsonInput", org.apache.thrift.protocol.TType.STRING, (short)4);
+    private static final org.apache.thrift.protocol.TField TIMEOUT_MILLISECS_FIELD_DESC = new org.apache.thrift.protocol.TField("timeoutMillisecs", org.apache.thrift.protocol.TType.I64, (short)5);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
@@ -276,13 +569,15 @@ public class TApi {
     public String moduleName; // required
     public String apiName; // required
     public String jsonInput; // required
+    public long timeoutMillisecs; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       AUTH_KEY((short)1, "authKey"),
       MODULE_NAME((short)2, "moduleName"),
       API_NAME((short)3, "apiName"),
-      JSON_INPUT((short)4, "jsonInput");
+      JSON_INPUT((short)4, "jsonInput"),
+      TIMEOUT_MILLISECS((short)5, "timeoutMillisecs");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -305,6 +600,8 @@ public class TApi {
             return API_NAME;
           case 4: // JSON_INPUT
             return JSON_INPUT;
+          case 5: // TIMEOUT_MILLISECS
+            return TIMEOUT_MILLISECS;
           default:
             return null;
         }
@@ -345,6 +642,8 @@ public class TApi {
     }
 
     // isset id assignments
+    private static final int __TIMEOUTMILLISECS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
@@ -356,6 +655,8 @@ public class TApi {
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       tmpMap.put(_Fields.JSON_INPUT, new org.apache.thrift.meta_data.FieldMetaData("jsonInput", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.TIMEOUT_MILLISECS, new org.apache.thrift.meta_data.FieldMetaData("timeoutMillisecs", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
       org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(callApi_args.class, metaDataMap);
     }
@@ -367,19 +668,23 @@ public class TApi {
       String authKey,
       String moduleName,
       String apiName,
-      String jsonInput)
+      String jsonInput,
+      long timeoutMillisecs)
     {
       this();
       this.authKey = authKey;
       this.moduleName = moduleName;
       this.apiName = apiName;
       this.jsonInput = jsonInput;
+      this.timeoutMillisecs = timeoutMillisecs;
+      setTimeoutMillisecsIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
     public callApi_args(callApi_args other) {
+      __isset_bitfield = other.__isset_bitfield;
       if (other.isSetAuthKey()) {
         this.authKey = other.authKey;
       }
@@ -392,6 +697,7 @@ public class TApi {
       if (other.isSetJsonInput()) {
         this.jsonInput = other.jsonInput;
       }
+      this.timeoutMillisecs = other.timeoutMillisecs;
     }
 
     public callApi_args deepCopy() {
@@ -404,6 +710,8 @@ public class TApi {
       this.moduleName = null;
       this.apiName = null;
       this.jsonInput = null;
+      setTimeoutMillisecsIsSet(false);
+      this.timeoutMillisecs = 0;
     }
 
     public String getAuthKey() {
@@ -502,6 +810,29 @@ public class TApi {
       }
     }
 
+    public long getTimeoutMillisecs() {
+      return this.timeoutMillisecs;
+    }
+
+    public callApi_args setTimeoutMillisecs(long timeoutMillisecs) {
+      this.timeoutMillisecs = timeoutMillisecs;
+      setTimeoutMillisecsIsSet(true);
+      return this;
+    }
+
+    public void unsetTimeoutMillisecs() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __TIMEOUTMILLISECS_ISSET_ID);
+    }
+
+    /** Returns true if field timeoutMillisecs is set (has been assigned a value) and false otherwise */
+    public boolean isSetTimeoutMillisecs() {
+      return EncodingUtils.testBit(__isset_bitfield, __TIMEOUTMILLISECS_ISSET_ID);
+    }
+
+    public void setTimeoutMillisecsIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __TIMEOUTMILLISECS_ISSET_ID, value);
+    }
+
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case AUTH_KEY:
@@ -536,6 +867,14 @@ public class TApi {
         }
         break;
 
+      case TIMEOUT_MILLISECS:
+        if (value == null) {
+          unsetTimeoutMillisecs();
+        } else {
+          setTimeoutMillisecs((Long)value);
+        }
+        break;
+
       }
     }
 
@@ -553,6 +892,9 @@ public class TApi {
       case JSON_INPUT:
         return getJsonInput();
 
+      case TIMEOUT_MILLISECS:
+        return Long.valueOf(getTimeoutMillisecs());
+
       }
       throw new IllegalStateException();
     }
@@ -572,6 +914,8 @@ public class TApi {
         return isSetApiName();
       case JSON_INPUT:
         return isSetJsonInput();
+      case TIMEOUT_MILLISECS:
+        return isSetTimeoutMillisecs();
       }
       throw new IllegalStateException();
     }
@@ -625,6 +969,15 @@ public class TApi {
           return false;
       }
 
+      boolean this_present_timeoutMillisecs = true;
+      boolean that_present_timeoutMillisecs = true;
+      if (this_present_timeoutMillisecs || that_present_timeoutMillisecs) {
+        if (!(this_present_timeoutMillisecs && that_present_timeoutMillisecs))
+          return false;
+        if (this.timeoutMillisecs != that.timeoutMillisecs)
+          return false;
+      }
+
       return true;
     }
 
@@ -681,6 +1034,16 @@ public class TApi {
           return lastComparison;
         }
       }
+      lastComparison = Boolean.valueOf(isSetTimeoutMillisecs()).compareTo(other.isSetTimeoutMillisecs());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetTimeoutMillisecs()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.timeoutMillisecs, other.timeoutMillisecs);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -732,6 +1095,10 @@ public class TApi {
         sb.append(this.jsonInput);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("timeoutMillisecs:");
+      sb.append(this.timeoutMillisecs);
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -751,6 +1118,8 @@ public class TApi {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
@@ -807,6 +1176,14 @@ public class TApi {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 5: // TIMEOUT_MILLISECS
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.timeoutMillisecs = iprot.readI64();
+                struct.setTimeoutMillisecsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -842,6 +1219,9 @@ public class TApi {
           oprot.writeString(struct.jsonInput);
           oprot.writeFieldEnd();
         }
+        oprot.writeFieldBegin(TIMEOUT_MILLISECS_FIELD_DESC);
+        oprot.writeI64(struct.timeoutMillisecs);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
@@ -872,7 +1252,10 @@ public class TApi {
         if (struct.isSetJsonInput()) {
           optionals.set(3);
         }
-        oprot.writeBitSet(optionals, 4);
+        if (struct.isSetTimeoutMillisecs()) {
+          optionals.set(4);
+        }
+        oprot.writeBitSet(optionals, 5);
         if (struct.isSetAuthKey()) {
           oprot.writeString(struct.authKey);
         }
@@ -885,12 +1268,15 @@ public class TApi {
         if (struct.isSetJsonInput()) {
           oprot.writeString(struct.jsonInput);
         }
+        if (struct.isSetTimeoutMillisecs()) {
+          oprot.writeI64(struct.timeoutMillisecs);
+        }
       }
 
       @Override
       public void read(org.apache.thrift.protocol.TProtocol prot, callApi_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(4);
+        BitSet incoming = iprot.readBitSet(5);
         if (incoming.get(0)) {
           struct.authKey = iprot.readString();
           struct.setAuthKeyIsSet(true);
@@ -907,6 +1293,10 @@ public class TApi {
           struct.jsonInput = iprot.readString();
           struct.setJsonInputIsSet(true);
         }
+        if (incoming.get(4)) {
+          struct.timeoutMillisecs = iprot.readI64();
+          struct.setTimeoutMillisecsIsSet(true);
+        }
       }
     }
 
@@ -1271,4 +1661,2158 @@ public class TApi {
 
   }
 
+  public static class callApiBinary_args implements org.apache.thrift.TBase<callApiBinary_args, callApiBinary_args._Fields>, java.io.Serializable, Cloneable, Comparable<callApiBinary_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("callApiBinary_args");
+
+    private static final org.apache.thrift.protocol.TField AUTH_KEY_FIELD_DESC = new org.apache.thrift.protocol.TField("authKey", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField MODULE_NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("moduleName", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField API_NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("apiName", org.apache.thrift.protocol.TType.STRING, (short)3);
+    private static final org.apache.thrift.protocol.TField ENCODING_FIELD_DESC = new org.apache.thrift.protocol.TField("encoding", org.apache.thrift.protocol.TType.I32, (short)4);
+    private static final org.apache.thrift.protocol.TField INPUT_FIELD_DESC = new org.apache.thrift.protocol.TField("input", org.apache.thrift.protocol.TType.STRING, (short)5);
+    private static final org.apache.thrift.protocol.TField TIMEOUT_MILLISECS_FIELD_DESC = new org.apache.thrift.protocol.TField("timeoutMillisecs", org.apache.thrift.protocol.TType.I64, (short)6);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new callApiBinary_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new callApiBinary_argsTupleSchemeFactory());
+    }
+
+    public String authKey; // required
+    public String moduleName; // required
+    public String apiName; // required
+    /**
+     * 
+     * @see TDataEncoding
+     */
+    public TDataEncoding encoding; // required
+    public ByteBuffer input; // required
+    public long timeoutMillisecs; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      AUTH_KEY((short)1, "authKey"),
+      MODULE_NAME((short)2, "moduleName"),
+      API_NAME((short)3, "apiName"),
+      /**
+       * 
+       * @see TDataEncoding
+       */
+      ENCODING((short)4, "encoding"),
+      INPUT((short)5, "input"),
+      TIMEOUT_MILLISECS((short)6, "timeoutMillisecs");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // AUTH_KEY
+            return AUTH_KEY;
+          case 2: // MODULE_NAME
+            return MODULE_NAME;
+          case 3: // API_NAME
+            return API_NAME;
+          case 4: // ENCODING
+            return ENCODING;
+          case 5: // INPUT
+            return INPUT;
+          case 6: // TIMEOUT_MILLISECS
+            return TIMEOUT_MILLISECS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __TIMEOUTMILLISECS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.AUTH_KEY, new org.apache.thrift.meta_data.FieldMetaData("authKey", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.MODULE_NAME, new org.apache.thrift.meta_data.FieldMetaData("moduleName", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.API_NAME, new org.apache.thrift.meta_data.FieldMetaData("apiName", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.ENCODING, new org.apache.thrift.meta_data.FieldMetaData("encoding", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.EnumMetaData(org.apache.thrift.protocol.TType.ENUM, TDataEncoding.class)));
+      tmpMap.put(_Fields.INPUT, new org.apache.thrift.meta_data.FieldMetaData("input", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
+      tmpMap.put(_Fields.TIMEOUT_MILLISECS, new org.apache.thrift.meta_data.FieldMetaData("timeoutMillisecs", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(callApiBinary_args.class, metaDataMap);
+    }
+
+    public callApiBinary_args() {
+    }
+
+    public callApiBinary_args(
+      String authKey,
+      String moduleName,
+      String apiName,
+      TDataEncoding encoding,
+      ByteBuffer input,
+      long timeoutMillisecs)
+    {
+      this();
+      this.authKey = authKey;
+      this.moduleName = moduleName;
+      this.apiName = apiName;
+      this.encoding = encoding;
+      this.input = input;
+      this.timeoutMillisecs = timeoutMillisecs;
+      setTimeoutMillisecsIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public callApiBinary_args(callApiBinary_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetAuthKey()) {
+        this.authKey = other.authKey;
+      }
+      if (other.isSetModuleName()) {
+        this.moduleName = other.moduleName;
+      }
+      if (other.isSetApiName()) {
+        this.apiName = other.apiName;
+      }
+      if (other.isSetEncoding()) {
+        this.encoding = other.encoding;
+      }
+      if (other.isSetInput()) {
+        this.input = org.apache.thrift.TBaseHelper.copyBinary(other.input);
+  ;
+      }
+      this.timeoutMillisecs = other.timeoutMillisecs;
+    }
+
+    public callApiBinary_args deepCopy() {
+      return new callApiBinary_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.authKey = null;
+      this.moduleName = null;
+      this.apiName = null;
+      this.encoding = null;
+      this.input = null;
+      setTimeoutMillisecsIsSet(false);
+      this.timeoutMillisecs = 0;
+    }
+
+    public String getAuthKey() {
+      return this.authKey;
+    }
+
+    public callApiBinary_args setAuthKey(String authKey) {
+      this.authKey = authKey;
+      return this;
+    }
+
+    public void unsetAuthKey() {
+      this.authKey = null;
+    }
+
+    /** Returns true if field authKey is set (has been assigned a value) and false otherwise */
+    public boolean isSetAuthKey() {
+      return this.authKey != null;
+    }
+
+    public void setAuthKeyIsSet(boolean value) {
+      if (!value) {
+        this.authKey = null;
+      }
+    }
+
+    public String getModuleName() {
+      return this.moduleName;
+    }
+
+    public callApiBinary_args setModuleName(String moduleName) {
+      this.moduleName = moduleName;
+      return this;
+    }
+
+    public void unsetModuleName() {
+      this.moduleName = null;
+    }
+
+    /** Returns true if field moduleName is set (has been assigned a value) and false otherwise */
+    public boolean isSetModuleName() {
+      return this.moduleName != null;
+    }
+
+    public void setModuleNameIsSet(boolean value) {
+      if (!value) {
+        this.moduleName = null;
+      }
+    }
+
+    public String getApiName() {
+      return this.apiName;
+    }
+
+    public callApiBinary_args setApiName(String apiName) {
+      this.apiName = apiName;
+      return this;
+    }
+
+    public void unsetApiName() {
+      this.apiName = null;
+    }
+
+    /** Returns true if field apiName is set (has been assigned a value) and false otherwise */
+    public boolean isSetApiName() {
+      return this.apiName != null;
+    }
+
+    public void setApiNameIsSet(boolean value) {
+      if (!value) {
+        this.apiName = null;
+      }
+    }
+
+    /**
+     * 
+     * @see TDataEncoding
+     */
+    public TDataEncoding getEncoding() {
+      return this.encoding;
+    }
+
+    /**
+     * 
+     * @see TDataEncoding
+     */
+    public callApiBinary_args setEncoding(TDataEncoding encoding) {
+      this.encoding = encoding;
+      return this;
+    }
+
+    public void unsetEncoding() {
+      this.encoding = null;
+    }
+
+    /** Returns true if field encoding is set (has been assigned a value) and false otherwise */
+    public boolean isSetEncoding() {
+      return this.encoding != null;
+    }
+
+    public void setEncodingIsSet(boolean value) {
+      if (!value) {
+        this.encoding = null;
+      }
+    }
+
+    public byte[] getInput() {
+      setInput(org.apache.thrift.TBaseHelper.rightSize(input));
+      return input == null ? null : input.array();
+    }
+
+    public ByteBuffer bufferForInput() {
+      return input;
+    }
+
+    public callApiBinary_args setInput(byte[] input) {
+      setInput(input == null ? (ByteBuffer)null : ByteBuffer.wrap(input));
+      return this;
+    }
+
+    public callApiBinary_args setInput(ByteBuffer input) {
+      this.input = input;
+      return this;
+    }
+
+    public void unsetInput() {
+      this.input = null;
+    }
+
+    /** Returns true if field input is set (has been assigned a value) and false otherwise */
+    public boolean isSetInput() {
+      return this.input != null;
+    }
+
+    public void setInputIsSet(boolean value) {
+      if (!value) {
+        this.input = null;
+      }
+    }
+
+    public long getTimeoutMillisecs() {
+      return this.timeoutMillisecs;
+    }
+
+    public callApiBinary_args setTimeoutMillisecs(long timeoutMillisecs) {
+      this.timeoutMillisecs = timeoutMillisecs;
+      setTimeoutMillisecsIsSet(true);
+      return this;
+    }
+
+    public void unsetTimeoutMillisecs() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __TIMEOUTMILLISECS_ISSET_ID);
+    }
+
+    /** Returns true if field timeoutMillisecs is set (has been assigned a value) and false otherwise */
+    public boolean isSetTimeoutMillisecs() {
+      return EncodingUtils.testBit(__isset_bitfield, __TIMEOUTMILLISECS_ISSET_ID);
+    }
+
+    public void setTimeoutMillisecsIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __TIMEOUTMILLISECS_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case AUTH_KEY:
+        if (value == null) {
+          unsetAuthKey();
+        } else {
+          setAuthKey((String)value);
+        }
+        break;
+
+      case MODULE_NAME:
+        if (value == null) {
+          unsetModuleName();
+        } else {
+          setModuleName((String)value);
+        }
+        break;
+
+      case API_NAME:
+        if (value == null) {
+          unsetApiName();
+        } else {
+          setApiName((String)value);
+        }
+        break;
+
+      case ENCODING:
+        if (value == null) {
+          unsetEncoding();
+        } else {
+          setEncoding((TDataEncoding)value);
+        }
+        break;
+
+      case INPUT:
+        if (value == null) {
+          unsetInput();
+        } else {
+          setInput((ByteBuffer)value);
+        }
+        break;
+
+      case TIMEOUT_MILLISECS:
+        if (value == null) {
+          unsetTimeoutMillisecs();
+        } else {
+          setTimeoutMillisecs((Long)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case AUTH_KEY:
+        return getAuthKey();
+
+      case MODULE_NAME:
+        return getModuleName();
+
+      case API_NAME:
+        return getApiName();
+
+      case ENCODING:
+        return getEncoding();
+
+      case INPUT:
+        return getInput();
+
+      case TIMEOUT_MILLISECS:
+        return Long.valueOf(getTimeoutMillisecs());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case AUTH_KEY:
+        return isSetAuthKey();
+      case MODULE_NAME:
+        return isSetModuleName();
+      case API_NAME:
+        return isSetApiName();
+      case ENCODING:
+        return isSetEncoding();
+      case INPUT:
+        return isSetInput();
+      case TIMEOUT_MILLISECS:
+        return isSetTimeoutMillisecs();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof callApiBinary_args)
+        return this.equals((callApiBinary_args)that);
+      return false;
+    }
+
+    public boolean equals(callApiBinary_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_authKey = true && this.isSetAuthKey();
+      boolean that_present_authKey = true && that.isSetAuthKey();
+      if (this_present_authKey || that_present_authKey) {
+        if (!(this_present_authKey && that_present_authKey))
+          return false;
+        if (!this.authKey.equals(that.authKey))
+          return false;
+      }
+
+      boolean this_present_moduleName = true && this.isSetModuleName();
+      boolean that_present_moduleName = true && that.isSetModuleName();
+      if (this_present_moduleName || that_present_moduleName) {
+        if (!(this_present_moduleName && that_present_moduleName))
+          return false;
+        if (!this.moduleName.equals(that.moduleName))
+          return false;
+      }
+
+      boolean this_present_apiName = true && this.isSetApiName();
+      boolean that_present_apiName = true && that.isSetApiName();
+      if (this_present_apiName || that_present_apiName) {
+        if (!(this_present_apiName && that_present_apiName))
+          return false;
+        if (!this.apiName.equals(that.apiName))
+          return false;
+      }
+
+      boolean this_present_encoding = true && this.isSetEncoding();
+      boolean that_present_encoding = true && that.isSetEncoding();
+      if (this_present_encoding || that_present_encoding) {
+        if (!(this_present_encoding && that_present_encoding))
+          return false;
+        if (!this.encoding.equals(that.encoding))
+          return false;
+      }
+
+      boolean this_present_input = true && this.isSetInput();
+      boolean that_present_input = true && that.isSetInput();
+      if (this_present_input || that_present_input) {
+        if (!(this_present_input && that_present_input))
+          return false;
+        if (!this.input.equals(that.input))
+          return false;
+      }
+
+      boolean this_present_timeoutMillisecs = true;
+      boolean that_present_timeoutMillisecs = true;
+      if (this_present_timeoutMillisecs || that_present_timeoutMillisecs) {
+        if (!(this_present_timeoutMillisecs && that_present_timeoutMillisecs))
+          return false;
+        if (this.timeoutMillisecs != that.timeoutMillisecs)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(callApiBinary_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetAuthKey()).compareTo(other.isSetAuthKey());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetAuthKey()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.authKey, other.authKey);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetModuleName()).compareTo(other.isSetModuleName());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetModuleName()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.moduleName, other.moduleName);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetApiName()).compareTo(other.isSetApiName());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetApiName()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.apiName, other.apiName);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetEncoding()).compareTo(other.isSetEncoding());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEncoding()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.encoding, other.encoding);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetInput()).compareTo(other.isSetInput());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetInput()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.input, other.input);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetTimeoutMillisecs()).compareTo(other.isSetTimeoutMillisecs());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetTimeoutMillisecs()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.timeoutMillisecs, other.timeoutMillisecs);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("callApiBinary_args(");
+      boolean first = true;
+
+      sb.append("authKey:");
+      if (this.authKey == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.authKey);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("moduleName:");
+      if (this.moduleName == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.moduleName);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("apiName:");
+      if (this.apiName == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.apiName);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("encoding:");
+      if (this.encoding == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.encoding);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("input:");
+      if (this.input == null) {
+        sb.append("null");
+      } else {
+        org.apache.thrift.TBaseHelper.toString(this.input, sb);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("timeoutMillisecs:");
+      sb.append(this.timeoutMillisecs);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class callApiBinary_argsStandardSchemeFactory implements SchemeFactory {
+      public callApiBinary_argsStandardScheme getScheme() {
+        return new callApiBinary_argsStandardScheme();
+      }
+    }
+
+    private static class callApiBinary_argsStandardScheme extends StandardScheme<callApiBinary_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, callApiBinary_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // AUTH_KEY
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.authKey = iprot.readString();
+                struct.setAuthKeyIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // MODULE_NAME
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.moduleName = iprot.readString();
+                struct.setModuleNameIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // API_NAME
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.apiName = iprot.readString();
+                struct.setApiNameIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // ENCODING
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.encoding = TDataEncoding.findByValue(iprot.readI32());
+                struct.setEncodingIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 5: // INPUT
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.input = iprot.readBinary();
+                struct.setInputIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 6: // TIMEOUT_MILLISECS
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.timeoutMillisecs = iprot.readI64();
+                struct.setTimeoutMillisecsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, callApiBinary_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.authKey != null) {
+          oprot.writeFieldBegin(AUTH_KEY_FIELD_DESC);
+          oprot.writeString(struct.authKey);
+          oprot.writeFieldEnd();
+        }
+        if (struct.moduleName != null) {
+          oprot.writeFieldBegin(MODULE_NAME_FIELD_DESC);
+          oprot.writeString(struct.moduleName);
+          oprot.writeFieldEnd();
+        }
+        if (struct.apiName != null) {
+          oprot.writeFieldBegin(API_NAME_FIELD_DESC);
+          oprot.writeString(struct.apiName);
+          oprot.writeFieldEnd();
+        }
+        if (struct.encoding != null) {
+          oprot.writeFieldBegin(ENCODING_FIELD_DESC);
+          oprot.writeI32(struct.encoding.getValue());
+          oprot.writeFieldEnd();
+        }
+        if (struct.input != null) {
+          oprot.writeFieldBegin(INPUT_FIELD_DESC);
+          oprot.writeBinary(struct.input);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(TIMEOUT_MILLISECS_FIELD_DESC);
+        oprot.writeI64(struct.timeoutMillisecs);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class callApiBinary_argsTupleSchemeFactory implements SchemeFactory {
+      public callApiBinary_argsTupleScheme getScheme() {
+        return new callApiBinary_argsTupleScheme();
+      }
+    }
+
+    private static class callApiBinary_argsTupleScheme extends TupleScheme<callApiBinary_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, callApiBinary_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetAuthKey()) {
+          optionals.set(0);
+        }
+        if (struct.isSetModuleName()) {
+          optionals.set(1);
+        }
+        if (struct.isSetApiName()) {
+          optionals.set(2);
+        }
+        if (struct.isSetEncoding()) {
+          optionals.set(3);
+        }
+        if (struct.isSetInput()) {
+          optionals.set(4);
+        }
+        if (struct.isSetTimeoutMillisecs()) {
+          optionals.set(5);
+        }
+        oprot.writeBitSet(optionals, 6);
+        if (struct.isSetAuthKey()) {
+          oprot.writeString(struct.authKey);
+        }
+        if (struct.isSetModuleName()) {
+          oprot.writeString(struct.moduleName);
+        }
+        if (struct.isSetApiName()) {
+          oprot.writeString(struct.apiName);
+        }
+        if (struct.isSetEncoding()) {
+          oprot.writeI32(struct.encoding.getValue());
+        }
+        if (struct.isSetInput()) {
+          oprot.writeBinary(struct.input);
+        }
+        if (struct.isSetTimeoutMillisecs()) {
+          oprot.writeI64(struct.timeoutMillisecs);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, callApiBinary_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(6);
+        if (incoming.get(0)) {
+          struct.authKey = iprot.readString();
+          struct.setAuthKeyIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.moduleName = iprot.readString();
+          struct.setModuleNameIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.apiName = iprot.readString();
+          struct.setApiNameIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.encoding = TDataEncoding.findByValue(iprot.readI32());
+          struct.setEncodingIsSet(true);
+        }
+        if (incoming.get(4)) {
+          struct.input = iprot.readBinary();
+          struct.setInputIsSet(true);
+        }
+        if (incoming.get(5)) {
+          struct.timeoutMillisecs = iprot.readI64();
+          struct.setTimeoutMillisecsIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class callApiBinary_result implements org.apache.thrift.TBase<callApiBinary_result, callApiBinary_result._Fields>, java.io.Serializable, Cloneable, Comparable<callApiBinary_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("callApiBinary_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new callApiBinary_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new callApiBinary_resultTupleSchemeFactory());
+    }
+
+    public TApiBinaryResult success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TApiBinaryResult.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(callApiBinary_result.class, metaDataMap);
+    }
+
+    public callApiBinary_result() {
+    }
+
+    public callApiBinary_result(
+      TApiBinaryResult success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public callApiBinary_result(callApiBinary_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new TApiBinaryResult(other.success);
+      }
+    }
+
+    public callApiBinary_result deepCopy() {
+      return new callApiBinary_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public TApiBinaryResult getSuccess() {
+      return this.success;
+    }
+
+    public callApiBinary_result setSuccess(TApiBinaryResult success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((TApiBinaryResult)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof callApiBinary_result)
+        return this.equals((callApiBinary_result)that);
+      return false;
+    }
+
+    public boolean equals(callApiBinary_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(callApiBinary_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("callApiBinary_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class callApiBinary_resultStandardSchemeFactory implements SchemeFactory {
+      public callApiBinary_resultStandardScheme getScheme() {
+        return new callApiBinary_resultStandardScheme();
+      }
+    }
+
+    private static class callApiBinary_resultStandardScheme extends StandardScheme<callApiBinary_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, callApiBinary_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new TApiBinaryResult();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, callApiBinary_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class callApiBinary_resultTupleSchemeFactory implements SchemeFactory {
+      public callApiBinary_resultTupleScheme getScheme() {
+        return new callApiBinary_resultTupleScheme();
+      }
+    }
+
+    private static class callApiBinary_resultTupleScheme extends TupleScheme<callApiBinary_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, callApiBinary_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, callApiBinary_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = new TApiBinaryResult();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class callApis_args implements org.apache.thrift.TBase<callApis_args, callApis_args._Fields>, java.io.Serializable, Cloneable, Comparable<callApis_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("callApis_args");
+
+    private static final org.apache.thrift.protocol.TField AUTH_KEY_FIELD_DESC = new org.apache.thrift.protocol.TField("authKey", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField CALLS_FIELD_DESC = new org.apache.thrift.protocol.TField("calls", org.apache.thrift.protocol.TType.LIST, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new callApis_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new callApis_argsTupleSchemeFactory());
+    }
+
+    public String authKey; // required
+    public List<TApiCall> calls; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      AUTH_KEY((short)1, "authKey"),
+      CALLS((short)2, "calls");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // AUTH_KEY
+            return AUTH_KEY;
+          case 2: // CALLS
+            return CALLS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.AUTH_KEY, new org.apache.thrift.meta_data.FieldMetaData("authKey", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.CALLS, new org.apache.thrift.meta_data.FieldMetaData("calls", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TApiCall.class))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(callApis_args.class, metaDataMap);
+    }
+
+    public callApis_args() {
+    }
+
+    public callApis_args(
+      String authKey,
+      List<TApiCall> calls)
+    {
+      this();
+      this.authKey = authKey;
+      this.calls = calls;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public callApis_args(callApis_args other) {
+      if (other.isSetAuthKey()) {
+        this.authKey = other.authKey;
+      }
+      if (other.isSetCalls()) {
+        List<TApiCall> __this__calls = new ArrayList<TApiCall>(other.calls.size());
+        for (TApiCall other_element : other.calls) {
+          __this__calls.add(new TApiCall(other_element));
+        }
+        this.calls = __this__calls;
+      }
+    }
+
+    public callApis_args deepCopy() {
+      return new callApis_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.authKey = null;
+      this.calls = null;
+    }
+
+    public String getAuthKey() {
+      return this.authKey;
+    }
+
+    public callApis_args setAuthKey(String authKey) {
+      this.authKey = authKey;
+      return this;
+    }
+
+    public void unsetAuthKey() {
+      this.authKey = null;
+    }
+
+    /** Returns true if field authKey is set (has been assigned a value) and false otherwise */
+    public boolean isSetAuthKey() {
+      return this.authKey != null;
+    }
+
+    public void setAuthKeyIsSet(boolean value) {
+      if (!value) {
+        this.authKey = null;
+      }
+    }
+
+    public int getCallsSize() {
+      return (this.calls == null) ? 0 : this.calls.size();
+    }
+
+    public java.util.Iterator<TApiCall> getCallsIterator() {
+      return (this.calls == null) ? null : this.calls.iterator();
+    }
+
+    public void addToCalls(TApiCall elem) {
+      if (this.calls == null) {
+        this.calls = new ArrayList<TApiCall>();
+      }
+      this.calls.add(elem);
+    }
+
+    public List<TApiCall> getCalls() {
+      return this.calls;
+    }
+
+    public callApis_args setCalls(List<TApiCall> calls) {
+      this.calls = calls;
+      return this;
+    }
+
+    public void unsetCalls() {
+      this.calls = null;
+    }
+
+    /** Returns true if field calls is set (has been assigned a value) and false otherwise */
+    public boolean isSetCalls() {
+      return this.calls != null;
+    }
+
+    public void setCallsIsSet(boolean value) {
+      if (!value) {
+        this.calls = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case AUTH_KEY:
+        if (value == null) {
+          unsetAuthKey();
+        } else {
+          setAuthKey((String)value);
+        }
+        break;
+
+      case CALLS:
+        if (value == null) {
+          unsetCalls();
+        } else {
+          setCalls((List<TApiCall>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case AUTH_KEY:
+        return getAuthKey();
+
+      case CALLS:
+        return getCalls();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case AUTH_KEY:
+        return isSetAuthKey();
+      case CALLS:
+        return isSetCalls();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof callApis_args)
+        return this.equals((callApis_args)that);
+      return false;
+    }
+
+    public boolean equals(callApis_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_authKey = true && this.isSetAuthKey();
+      boolean that_present_authKey = true && that.isSetAuthKey();
+      if (this_present_authKey || that_present_authKey) {
+        if (!(this_present_authKey && that_present_authKey))
+          return false;
+        if (!this.authKey.equals(that.authKey))
+          return false;
+      }
+
+      boolean this_present_calls = true && this.isSetCalls();
+      boolean that_present_calls = true && that.isSetCalls();
+      if (this_present_calls || that_present_calls) {
+        if (!(this_present_calls && that_present_calls))
+          return false;
+        if (!this.calls.equals(that.calls))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(callApis_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetAuthKey()).compareTo(other.isSetAuthKey());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetAuthKey()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.authKey, other.authKey);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetCalls()).compareTo(other.isSetCalls());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetCalls()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.calls, other.calls);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("callApis_args(");
+      boolean first = true;
+
+      sb.append("authKey:");
+      if (this.authKey == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.authKey);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("calls:");
+      if (this.calls == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.calls);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class callApis_argsStandardSchemeFactory implements SchemeFactory {
+      public callApis_argsStandardScheme getScheme() {
+        return new callApis_argsStandardScheme();
+      }
+    }
+
+    private static class callApis_argsStandardScheme extends StandardScheme<callApis_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, callApis_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // AUTH_KEY
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.authKey = iprot.readString();
+                struct.setAuthKeyIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // CALLS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list0 = iprot.readListBegin();
+                  struct.calls = new ArrayList<TApiCall>(_list0.size);
+                  for (int _i1 = 0; _i1 < _list0.size; ++_i1)
+                  {
+                    TApiCall _elem2;
+                    _elem2 = new TApiCall();
+                    _elem2.read(iprot);
+                    struct.calls.add(_elem2);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setCallsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, callApis_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.authKey != null) {
+          oprot.writeFieldBegin(AUTH_KEY_FIELD_DESC);
+          oprot.writeString(struct.authKey);
+          oprot.writeFieldEnd();
+        }
+        if (struct.calls != null) {
+          oprot.writeFieldBegin(CALLS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.calls.size()));
+            for (TApiCall _iter3 : struct.calls)
+            {
+              _iter3.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class callApis_argsTupleSchemeFactory implements SchemeFactory {
+      public callApis_argsTupleScheme getScheme() {
+        return new callApis_argsTupleScheme();
+      }
+    }
+
+    private static class callApis_argsTupleScheme extends TupleScheme<callApis_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, callApis_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetAuthKey()) {
+          optionals.set(0);
+        }
+        if (struct.isSetCalls()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetAuthKey()) {
+          oprot.writeString(struct.authKey);
+        }
+        if (struct.isSetCalls()) {
+          {
+            oprot.writeI32(struct.calls.size());
+            for (TApiCall _iter4 : struct.calls)
+            {
+              _iter4.write(oprot);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, callApis_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.authKey = iprot.readString();
+          struct.setAuthKeyIsSet(true);
+        }
+        if (incoming.get(1)) {
+          {
+            org.apache.thrift.protocol.TList _list5 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.calls = new ArrayList<TApiCall>(_list5.size);
+            for (int _i6 = 0; _i6 < _list5.size; ++_i6)
+            {
+              TApiCall _elem7;
+              _elem7 = new TApiCall();
+              _elem7.read(iprot);
+              struct.calls.add(_elem7);
+            }
+          }
+          struct.setCallsIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class callApis_result implements org.apache.thrift.TBase<callApis_result, callApis_result._Fields>, java.io.Serializable, Cloneable, Comparable<callApis_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("callApis_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new callApis_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new callApis_resultTupleSchemeFactory());
+    }
+
+    public List<TApiResult> success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TApiResult.class))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(callApis_result.class, metaDataMap);
+    }
+
+    public callApis_result() {
+    }
+
+    public callApis_result(
+      List<TApiResult> success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public callApis_result(callApis_result other) {
+      if (other.isSetSuccess()) {
+        List<TApiResult> __this__success = new ArrayList<TApiResult>(other.success.size());
+        for (TApiResult other_element : other.success) {
+          __this__success.add(new TApiResult(other_element));
+        }
+        this.success = __this__success;
+      }
+    }
+
+    public callApis_result deepCopy() {
+      return new callApis_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<TApiResult> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(TApiResult elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<TApiResult>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<TApiResult> getSuccess() {
+      return this.success;
+    }
+
+    public callApis_result setSuccess(List<TApiResult> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((List<TApiResult>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof callApis_result)
+        return this.equals((callApis_result)that);
+      return false;
+    }
+
+    public boolean equals(callApis_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(callApis_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("callApis_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class callApis_resultStandardSchemeFactory implements SchemeFactory {
+      public callApis_resultStandardScheme getScheme() {
+        return new callApis_resultStandardScheme();
+      }
+    }
+
+    private static class callApis_resultStandardScheme extends StandardScheme<callApis_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, callApis_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list8 = iprot.readListBegin();
+                  struct.success = new ArrayList<TApiResult>(_list8.size);
+                  for (int _i9 = 0; _i9 < _list8.size; ++_i9)
+                  {
+                    TApiResult _elem10;
+                    _elem10 = new TApiResult();
+                    _elem10.read(iprot);
+                    struct.success.add(_elem10);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, callApis_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (TApiResult _iter11 : struct.success)
+            {
+              _iter11.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class callApis_resultTupleSchemeFactory implements SchemeFactory {
+      public callApis_resultTupleScheme getScheme() {
+        return new callApis_resultTupleScheme();
+      }
+    }
+
+    private static class callApis_resultTupleScheme extends TupleScheme<callApis_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, callApis_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (TApiResult _iter12 : struct.success)
+            {
+              _iter12.write(oprot);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, callApis_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list13 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<TApiResult>(_list13.size);
+            for (int _i14 = 0; _i14 < _list13.size; ++_i14)
+            {
+              TApiResult _elem15;
+              _elem15 = new TApiResult();
+              _elem15.read(iprot);
+              struct.success.add(_elem15);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
 }
@@ -1,5 +1,8 @@
 package com.github.ddth.frontapi.internal.thrift;
 
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+
 import org.apache.thrift.TProcessor;
 import org.apache.thrift.server.TServer;
 import org.apache.thrift.transport.TTransportException;
@@ -24,8 +27,15 @@ public class ThreadedSelectorServerFactory extends AbstractServerFactory {
      */
     @Override
     public TServer createServer() throws TTransportException {
-        TServer server = ThriftUtils.createThreadedSelectorServer(getProcessorFactory(), getPort(),
-                getClientTimeoutMillisecs(), getMaxFrameSize(), maxReadBufferSize);
+        // same pool as Thrift's default: fixed number of threads, requests
+        // waiting for a worker are queued
+        int numThreads = ThriftUtils.defaultNumWorkerThreads();
+        ThreadPoolExecutor workerExecutor = ThriftUtils.createWorkerExecutor(numThreads,
+                numThreads, new LinkedBlockingQueue<Runnable>());
+        TServer server = ThriftUtils.createThreadedSelectorServer(getProcessorFactory(),
+                getProtocolFactory(), getPort(), getClientTimeoutMillisecs(), getMaxFrameSize(),
+                maxReadBufferSize, workerExecutor);
+        setWorkerExecutor(workerExecutor);
         return server;
     }
 }
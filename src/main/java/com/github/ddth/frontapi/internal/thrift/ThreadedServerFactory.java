@@ -1,5 +1,8 @@
 package com.github.ddth.frontapi.internal.thrift;
 
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+
 import org.apache.thrift.TProcessor;
 import org.apache.thrift.server.TServer;
 import org.apache.thrift.transport.TTransportException;
@@ -22,8 +25,13 @@ public class ThreadedServerFactory extends AbstractServerFactory {
      */
     @Override
     public TServer createServer() throws TTransportException {
-        TServer server = ThriftUtils.createThreadedServer(getProcessorFactory(), getPort(),
-                getClientTimeoutMillisecs(), getMaxFrameSize());
+        // same pool as Thrift's default: a thread per connection
+        ThreadPoolExecutor workerExecutor = ThriftUtils.createWorkerExecutor(1,
+                ThriftUtils.defaultNumWorkerThreads(), new SynchronousQueue<Runnable>());
+        TServer server = ThriftUtils.createThreadedServer(getProcessorFactory(),
+                getProtocolFactory(), getPort(), getClientTimeoutMillisecs(), getMaxFrameSize(),
+                workerExecutor);
+        setWorkerExecutor(workerExecutor);
         return server;
     }
 }
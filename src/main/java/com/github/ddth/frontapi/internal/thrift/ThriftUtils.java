@@ -1,9 +1,17 @@
 package com.github.ddth.frontapi.internal.thrift;
 
+import java.nio.ByteBuffer;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.apache.thrift.TBaseHelper;
 import org.apache.thrift.TProcessorFactory;
 import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TCompactProtocol;
 import org.apache.thrift.protocol.TProtocolFactory;
 import org.apache.thrift.server.THsHaServer;
 import org.apache.thrift.server.TNonblockingServer;
@@ -19,30 +27,164 @@ import org.apache.thrift.transport.TServerTransport;
 import org.apache.thrift.transport.TTransportException;
 import org.apache.thrift.transport.TTransportFactory;
 
+import com.github.ddth.frontapi.internal.JsonUtils;
+import com.github.ddth.frontapi.internal.SmileUtils;
+
 public class ThriftUtils {
     // private final static Logger LOGGER =
     // LoggerFactory.getLogger(ThriftUtils.class);
 
-    public static TServer createThreadedServer(TProcessorFactory processorFactory, int port,
-            int clientTimeoutMillisecs, int maxFrameSize) throws TTransportException {
-        int maxWorkerThreads = Math.max(2, Runtime.getRuntime().availableProcessors());
+    public final static String PROTOCOL_BINARY = "binary";
+    public final static String PROTOCOL_COMPACT = "compact";
+
+    /**
+     * Creates a protocol factory by name. Client and server must use the same
+     * protocol.
+     * 
+     * @param protocol
+     *            {@link #PROTOCOL_BINARY} or {@link #PROTOCOL_COMPACT},
+     *            {@code null} or empty means {@link #PROTOCOL_BINARY}
+     * @return
+     * @since 0.1.4
+     */
+    public static TProtocolFactory createProtocolFactory(String protocol) {
+        if (protocol == null || protocol.trim().length() == 0
+                || PROTOCOL_BINARY.equalsIgnoreCase(protocol.trim())) {
+            return new TBinaryProtocol.Factory();
+        }
+        if (PROTOCOL_COMPACT.equalsIgnoreCase(protocol.trim())) {
+            return new TCompactProtocol.Factory();
+        }
+        throw new IllegalArgumentException("Unsupported Thrift protocol [" + protocol + "]!");
+    }
+
+    /**
+     * Serializes an object to binary data in the specified encoding.
+     * 
+     * @param encoding
+     * @param obj
+     * @return serialized data, or {@code null} if {@code obj} is {@code null}
+     * @since 0.1.4
+     */
+    public static ByteBuffer encode(TDataEncoding encoding, Object obj) {
+        if (encoding == null) {
+            throw new IllegalArgumentException("Unsupported data encoding!");
+        }
+        byte[] data;
+        switch (encoding) {
+        case SMILE:
+            data = SmileUtils.toSmile(obj);
+            break;
+        default:
+            data = JsonUtils.toJsonBytes(obj);
+        }
+        return data != null ? ByteBuffer.wrap(data) : null;
+    }
+
+    /**
+     * Deserializes binary data in the specified encoding.
+     * 
+     * @param encoding
+     * @param data
+     * @return deserialized object, or {@code null} if {@code data} is empty
+     * @since 0.1.4
+     */
+    public static Object decode(TDataEncoding encoding, ByteBuffer data) {
+        if (encoding == null) {
+            throw new IllegalArgumentException("Unsupported data encoding!");
+        }
+        if (data == null) {
+            return null;
+        }
+        byte[] bytes = TBaseHelper.byteBufferToByteArray(data);
+        switch (encoding) {
+        case SMILE:
+            return SmileUtils.fromSmile(bytes);
+        default:
+            return JsonUtils.fromJsonBytes(bytes);
+        }
+    }
+
+    /**
+     * Default number of worker threads of Thrift servers.
+     * 
+     * @return
+     * @since 0.1.4
+     */
+    public static int defaultNumWorkerThreads() {
+        return Math.max(2, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a pool of daemon worker threads for a Thrift server, named
+     * {@code FrontApi Thrift Worker #<n>}.
+     * 
+     * @param coreThreads
+     * @param maxThreads
+     * @param queue
+     *            queue of requests waiting for a worker
+     * @return
+     * @since 0.1.4
+     */
+    public static ThreadPoolExecutor createWorkerExecutor(int coreThreads, int maxThreads,
+            BlockingQueue<Runnable> queue) {
+        ThreadFactory threadFactory = new ThreadFactory() {
+            private final AtomicInteger counter = new AtomicInteger(0);
+
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "FrontApi Thrift Worker #" + counter.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            }
+        };
+        return new ThreadPoolExecutor(coreThreads, maxThreads, 60, TimeUnit.SECONDS, queue,
+                threadFactory);
+    }
+
+    public static TServer createThreadedServer(TProcessorFactory processorFactory,
+            TProtocolFactory protocolFactory, int port, int clientTimeoutMillisecs,
+            int maxFrameSize) throws TTransportException {
+        return createThreadedServer(processorFactory, protocolFactory, port,
+                clientTimeoutMillisecs, maxFrameSize, null);
+    }
+
+    /**
+     * Creates a threaded server.
+     * 
+     * @param processorFactory
+     * @param protocolFactory
+     * @param port
+     * @param clientTimeoutMillisecs
+     * @param maxFrameSize
+     * @param executorService
+     *            worker pool, {@code null} to let Thrift create one
+     * @return
+     * @throws TTransportException
+     * @since 0.1.4
+     */
+    public static TServer createThreadedServer(TProcessorFactory processorFactory,
+            TProtocolFactory protocolFactory, int port, int clientTimeoutMillisecs,
+            int maxFrameSize, ExecutorService executorService) throws TTransportException {
+        int maxWorkerThreads = defaultNumWorkerThreads();
         TServerTransport transport = new TServerSocket(port, clientTimeoutMillisecs);
-        TProtocolFactory protocolFactory = new TBinaryProtocol.Factory();
         TTransportFactory transportFactory = new TFramedTransport.Factory(maxFrameSize);
         TThreadPoolServer.Args args = new TThreadPoolServer.Args(transport)
                 .processorFactory(processorFactory).protocolFactory(protocolFactory)
                 .transportFactory(transportFactory).minWorkerThreads(1)
                 .maxWorkerThreads(maxWorkerThreads);
+        if (executorService != null) {
+            args.executorService(executorService);
+        }
         TThreadPoolServer server = new TThreadPoolServer(args);
         return server;
     }
 
-    public static TServer createNonBlockingServer(TProcessorFactory processorFactory, int port,
-            int clientTimeoutMillisecs, int maxFrameSize, long maxReadBufferSize)
-            throws TTransportException {
+    public static TServer createNonBlockingServer(TProcessorFactory processorFactory,
+            TProtocolFactory protocolFactory, int port, int clientTimeoutMillisecs,
+            int maxFrameSize, long maxReadBufferSize) throws TTransportException {
         TNonblockingServerTransport transport = new TNonblockingServerSocket(port,
                 clientTimeoutMillisecs);
-        TProtocolFactory protocolFactory = new TBinaryProtocol.Factory();
         TTransportFactory transportFactory = new TFramedTransport.Factory(maxFrameSize);
         TNonblockingServer.Args args = new TNonblockingServer.Args(transport)
                 .processorFactory(processorFactory).protocolFactory(protocolFactory)
@@ -52,13 +194,12 @@ public class ThriftUtils {
         return server;
     }
 
-    public static TServer createHaHsServer(TProcessorFactory processorFactory, int port,
-            int clientTimeoutMillisecs, int maxFrameSize, long maxReadBufferSize)
-            throws TTransportException {
+    public static TServer createHaHsServer(TProcessorFactory processorFactory,
+            TProtocolFactory protocolFactory, int port, int clientTimeoutMillisecs,
+            int maxFrameSize, long maxReadBufferSize) throws TTransportException {
         int numThreads = Math.max(2, Runtime.getRuntime().availableProcessors());
         TNonblockingServerTransport transport = new TNonblockingServerSocket(port,
                 clientTimeoutMillisecs);
-        TProtocolFactory protocolFactory = new TBinaryProtocol.Factory();
         TTransportFactory transportFactory = new TFramedTransport.Factory(maxFrameSize);
         THsHaServer.Args args = new THsHaServer.Args(transport).processorFactory(processorFactory)
                 .protocolFactory(protocolFactory).transportFactory(transportFactory)
@@ -69,19 +210,44 @@ public class ThriftUtils {
     }
 
     public static TServer createThreadedSelectorServer(TProcessorFactory processorFactory,
-            int port, int clientTimeoutMillisecs, int maxFrameSize, long maxReadBufferSize)
+            TProtocolFactory protocolFactory, int port, int clientTimeoutMillisecs,
+            int maxFrameSize, long maxReadBufferSize) throws TTransportException {
+        return createThreadedSelectorServer(processorFactory, protocolFactory, port,
+                clientTimeoutMillisecs, maxFrameSize, maxReadBufferSize, null);
+    }
+
+    /**
+     * Creates a threaded-selector server.
+     * 
+     * @param processorFactory
+     * @param protocolFactory
+     * @param port
+     * @param clientTimeoutMillisecs
+     * @param maxFrameSize
+     * @param maxReadBufferSize
+     * @param executorService
+     *            worker pool, {@code null} to let Thrift create one
+     * @return
+     * @throws TTransportException
+     * @since 0.1.4
+     */
+    public static TServer createThreadedSelectorServer(TProcessorFactory processorFactory,
+            TProtocolFactory protocolFactory, int port, int clientTimeoutMillisecs,
+            int maxFrameSize, long maxReadBufferSize, ExecutorService executorService)
             throws TTransportException {
-        int numThreads = Math.max(2, Runtime.getRuntime().availableProcessors());
+        int numThreads = defaultNumWorkerThreads();
         int selectorThreads = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
         TNonblockingServerTransport transport = new TNonblockingServerSocket(port,
                 clientTimeoutMillisecs);
-        TProtocolFactory protocolFactory = new TBinaryProtocol.Factory();
         TTransportFactory transportFactory = new TFramedTransport.Factory(maxFrameSize);
         TThreadedSelectorServer.Args args = new TThreadedSelectorServer.Args(transport)
                 .processorFactory(processorFactory).protocolFactory(protocolFactory)
                 .transportFactory(transportFactory).workerThreads(numThreads)
                 .acceptPolicy(AcceptPolicy.FAIR_ACCEPT).acceptQueueSizePerThread(10000)
                 .selectorThreads(selectorThreads);
+        if (executorService != null) {
+            args.executorService(executorService);
+        }
         args.maxReadBufferBytes = maxReadBufferSize;
         TThreadedSelectorServer server = new TThreadedSelectorServer(args);
         return server;
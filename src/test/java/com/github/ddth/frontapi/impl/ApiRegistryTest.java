@@ -0,0 +1,162 @@
+package com.github.ddth.frontapi.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.ddth.frontapi.ApiFuture;
+import com.github.ddth.frontapi.ApiOptions;
+import com.github.ddth.frontapi.ApiParams;
+import com.github.ddth.frontapi.ApiResult;
+import com.github.ddth.frontapi.IApi;
+import com.github.ddth.frontapi.IAsyncApi;
+import com.github.ddth.frontapi.IApiHandle;
+import com.github.ddth.frontapi.IApiRegistry;
+
+public class ApiRegistryTest {
+
+    private ApiRegistry apiRegistry;
+    private ExecutorService executor;
+    private ScheduledExecutorService scheduler;
+
+    private static IApi slowApi(final long sleepMillisecs) {
+        return new IApi() {
+            @Override
+            public Object call(ApiParams params) throws Exception {
+                Thread.sleep(sleepMillisecs);
+                return "slow";
+            }
+        };
+    }
+
+    private IAsyncApi slowAsyncApi(final long delayMillisecs) {
+        return new IAsyncApi() {
+            @Override
+            public Object call(ApiParams params) throws Exception {
+                return callAsync(params).get();
+            }
+
+            @Override
+            public ApiFuture<Object> callAsync(ApiParams params) {
+                final ApiFuture<Object> result = new ApiFuture<Object>();
+                scheduler.schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        result.complete("slow");
+                    }
+                }, delayMillisecs, TimeUnit.MILLISECONDS);
+                return result;
+            }
+        };
+    }
+
+    private Future<ApiResult> callInBackground(final String apiName, final long timeoutMillisecs)
+            throws InterruptedException {
+        Future<ApiResult> result = executor.submit(new Callable<ApiResult>() {
+            @Override
+            public ApiResult call() throws Exception {
+                return apiRegistry.callApiAsync("m", apiName, "key", "input", timeoutMillisecs)
+                        .get();
+            }
+        });
+        // let the call take off first
+        Thread.sleep(100);
+        return result;
+    }
+
+    private static IApi constantApi(final Object output) {
+        return new IApi() {
+            @Override
+            public Object call(ApiParams params) throws Exception {
+                return output;
+            }
+        };
+    }
+
+    @Before
+    public void setUp() {
+        executor = Executors.newCachedThreadPool();
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        apiRegistry = new ApiRegistry().setTimeoutExecutor(executor).setTimeoutScheduler(
+                scheduler);
+        apiRegistry.init();
+    }
+
+    @After
+    public void tearDown() {
+        apiRegistry.destroy();
+        executor.shutdownNow();
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void testWildcardHandleAfterApiRegistered() throws Exception {
+        apiRegistry.register("m", IApiRegistry.WILDCARD_API, constantApi("wildcard"));
+        IApiHandle handle = apiRegistry.resolve("m", "foo");
+        assertTrue(handle.isValid());
+        assertEquals("wildcard", handle.call("key", null).getOutput());
+        assertEquals("wildcard", handle.callAsync("key", null).get().getOutput());
+
+        apiRegistry.register("m", "foo", constantApi("foo"));
+        assertFalse(handle.isValid());
+        assertEquals("foo", handle.call("key", null).getOutput());
+        assertEquals("foo", handle.callAsync("key", null).get().getOutput());
+        assertEquals("foo", apiRegistry.callApi("m", "foo", "key", null).getOutput());
+
+        // other names still go to the wildcard API
+        assertEquals("wildcard", apiRegistry.resolve("m", "bar").call("key", null).getOutput());
+    }
+
+    @Test
+    public void testCoalescedFollowerTimeoutSync() throws Exception {
+        apiRegistry.register("m", "slow", slowApi(1000), new ApiOptions().setIdempotent(true));
+        Future<ApiResult> leader = callInBackground("slow", 5000);
+
+        long start = System.currentTimeMillis();
+        ApiResult result = apiRegistry.callApi("m", "slow", "key", "input", 100);
+        assertEquals(IApi.STATUS_GATEWAY_TIMEOUT, result.getStatus());
+        assertTrue(System.currentTimeMillis() - start < 900);
+        assertEquals("slow", leader.get().getOutput());
+    }
+
+    @Test
+    public void testCoalescedFollowerTimeoutAsync() throws Exception {
+        apiRegistry.register("m", "slow", slowAsyncApi(1000),
+                new ApiOptions().setIdempotent(true));
+        Future<ApiResult> leader = callInBackground("slow", 5000);
+
+        long start = System.currentTimeMillis();
+        ApiResult result = apiRegistry.callApiAsync("m", "slow", "key", "input", 100).get();
+        assertEquals(IApi.STATUS_GATEWAY_TIMEOUT, result.getStatus());
+        assertTrue(System.currentTimeMillis() - start < 900);
+        assertEquals("slow", leader.get().getOutput());
+    }
+
+    @Test
+    public void testCoalescedFollowerOutlastsLeader() throws Exception {
+        apiRegistry.register("m", "slow", slowApi(300), new ApiOptions().setIdempotent(true));
+        apiRegistry.register("m", "slowAsync", slowAsyncApi(300),
+                new ApiOptions().setIdempotent(true));
+
+        Future<ApiResult> leader = callInBackground("slow", 150);
+        assertEquals("slow", apiRegistry.callApi("m", "slow", "key", "input", 2000)
+                .getOutput());
+        assertEquals(IApi.STATUS_GATEWAY_TIMEOUT, leader.get().getStatus());
+
+        leader = callInBackground("slowAsync", 150);
+        assertEquals("slow", apiRegistry.callApiAsync("m", "slowAsync", "key", "input", 2000)
+                .get().getOutput());
+        assertEquals(IApi.STATUS_GATEWAY_TIMEOUT, leader.get().getStatus());
+    }
+}